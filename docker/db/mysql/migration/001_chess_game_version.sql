@@ -0,0 +1 @@
+ALTER TABLE chess_game ADD COLUMN version bigint NOT NULL DEFAULT 0;
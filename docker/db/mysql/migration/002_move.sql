@@ -0,0 +1,18 @@
+ALTER TABLE chess_game ADD COLUMN snapshot_version bigint NOT NULL DEFAULT 0;
+
+UPDATE chess_game
+SET snapshot_version = version;
+
+CREATE TABLE move
+(
+    id            bigint      NOT NULL AUTO_INCREMENT,
+    chess_game_id bigint      NOT NULL,
+    ply           bigint      NOT NULL,
+    source        varchar(2)  NOT NULL,
+    target        varchar(2)  NOT NULL,
+    promotion     varchar(10),
+    captured      varchar(10),
+    primary key (id),
+    unique (chess_game_id, ply),
+    foreign key (chess_game_id) references chess_game (id) on delete cascade
+);
@@ -0,0 +1 @@
+ALTER TABLE chess_game ADD COLUMN snapshot varbinary(32) AFTER version;
@@ -0,0 +1,68 @@
+ALTER TABLE move MODIFY source varchar(2), MODIFY target varchar(2);
+ALTER TABLE move ADD COLUMN turn enum('WHITE_TURN', 'BLACK_TURN', 'END');
+
+CREATE TEMPORARY TABLE move_count AS
+SELECT id,
+       chess_game_id,
+       SUM(flip) OVER (PARTITION BY chess_game_id ORDER BY ply) AS flips_through
+FROM (SELECT id,
+             chess_game_id,
+             ply,
+             CASE
+                 WHEN promotion IS NOT NULL THEN 1
+                 WHEN LEAD(promotion) OVER (PARTITION BY chess_game_id ORDER BY ply) IS NOT NULL THEN 0
+                 ELSE 1
+                 END AS flip
+      FROM move) AS move_flip;
+
+CREATE TEMPORARY TABLE first_move AS
+SELECT m.chess_game_id, m.ply, m.source
+FROM move m
+WHERE m.ply = (SELECT MIN(f.ply) FROM move f WHERE f.chess_game_id = m.chess_game_id);
+
+CREATE TEMPORARY TABLE start_turn AS
+SELECT g.id AS chess_game_id,
+       CASE
+           WHEN g.turn <> 'END' THEN
+               CASE
+                   WHEN (SELECT MAX(c.flips_through) FROM move_count c WHERE c.chess_game_id = g.id) % 2 = 0
+                       THEN g.turn
+                   WHEN g.turn = 'WHITE_TURN' THEN 'BLACK_TURN'
+                   ELSE 'WHITE_TURN'
+                   END
+           WHEN f.ply = 1 THEN 'WHITE_TURN'
+           WHEN p.color IS NOT NULL THEN
+               CASE WHEN p.color = 'WHITE' THEN 'WHITE_TURN' ELSE 'BLACK_TURN' END
+           WHEN f.ply % 2 = 1 THEN 'WHITE_TURN'
+           ELSE 'BLACK_TURN'
+           END AS turn
+FROM chess_game g
+         JOIN first_move f ON f.chess_game_id = g.id
+         LEFT JOIN piece p ON p.chess_game_id = g.id
+    AND p.position_col = SUBSTRING(f.source, 1, 1)
+    AND p.position_row = SUBSTRING(f.source, 2, 1);
+
+UPDATE move m
+    JOIN move_count c ON c.id = m.id
+    JOIN start_turn s ON s.chess_game_id = m.chess_game_id
+SET m.turn = CASE
+                 WHEN c.flips_through % 2 = 0 THEN s.turn
+                 WHEN s.turn = 'WHITE_TURN' THEN 'BLACK_TURN'
+                 ELSE 'WHITE_TURN'
+    END;
+
+DROP TEMPORARY TABLE move_count, first_move, start_turn;
+
+INSERT INTO move (chess_game_id, ply, turn)
+SELECT g.id, g.version, 'END'
+FROM chess_game g
+WHERE g.turn = 'END'
+  AND g.version > g.snapshot_version
+  AND NOT EXISTS(SELECT 1 FROM move m WHERE m.chess_game_id = g.id AND m.ply = g.version);
+
+ALTER TABLE move MODIFY turn enum('WHITE_TURN', 'BLACK_TURN', 'END') NOT NULL;
+
+UPDATE chess_game
+SET version = snapshot_version;
+
+ALTER TABLE chess_game DROP COLUMN snapshot_version;
@@ -0,0 +1,8 @@
+ALTER TABLE piece ADD COLUMN square tinyint;
+
+UPDATE piece
+SET square = (ASCII(position_row) - ASCII('1')) * 8 + (ASCII(position_col) - ASCII('a'));
+
+ALTER TABLE piece MODIFY square tinyint NOT NULL;
+ALTER TABLE piece ADD UNIQUE INDEX piece_chess_game_square (chess_game_id, square);
+ALTER TABLE piece DROP COLUMN position_col, DROP COLUMN position_row;
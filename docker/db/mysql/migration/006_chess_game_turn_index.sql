@@ -0,0 +1 @@
+CREATE INDEX chess_game_turn_id ON chess_game (turn, id);
@@ -0,0 +1,10 @@
+CREATE TABLE chess_game_archive
+(
+    chess_game_id bigint        NOT NULL,
+    title         varchar(20)   NOT NULL UNIQUE,
+    password      varchar(100)  NOT NULL,
+    version       bigint        NOT NULL,
+    snapshot      varbinary(32) NOT NULL,
+    move_log      blob          NOT NULL,
+    primary key (chess_game_id)
+);
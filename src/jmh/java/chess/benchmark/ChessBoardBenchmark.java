@@ -0,0 +1,60 @@
+package chess.benchmark;
+
+import static chess.domain.Color.WHITE;
+
+import chess.domain.ChessBoard;
+import chess.domain.Color;
+import chess.domain.Move;
+import chess.domain.MoveGenerator;
+import chess.domain.MoveResult;
+import chess.domain.Position;
+import chess.domain.piece.PieceFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChessBoardBenchmark {
+
+    private final Position knightSource = Position.from("g1");
+    private final Position knightTarget = Position.from("f3");
+    private final Position queenSource = Position.from("d1");
+    private final Position queenTarget = Position.from("d3");
+
+    private ChessBoard chessBoard;
+
+    @Setup
+    public void setUp() {
+        chessBoard = new ChessBoard(PieceFactory.createNewChessBoard());
+    }
+
+    @Benchmark
+    public Map<Color, Double> calculateScoreStatus() {
+        return chessBoard.calculateScoreStatus();
+    }
+
+    @Benchmark
+    public void movePiece() {
+        chessBoard.movePiece(knightSource, knightTarget, WHITE);
+        chessBoard.movePiece(knightTarget, knightSource, WHITE);
+    }
+
+    @Benchmark
+    public MoveResult rejectMove() {
+        return chessBoard.movePiece(queenSource, queenTarget, WHITE);
+    }
+
+    @Benchmark
+    public List<Move> legalMoves() {
+        return new MoveGenerator(chessBoard).legalMoves(WHITE);
+    }
+}
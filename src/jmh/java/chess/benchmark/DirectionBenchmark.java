@@ -0,0 +1,36 @@
+package chess.benchmark;
+
+import chess.domain.Position;
+import chess.domain.direction.Direction;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DirectionBenchmark {
+
+    private final Position source = Position.from("a1");
+    private final Position target = Position.from("h8");
+
+    @Benchmark
+    public List<Position> route() {
+        return Direction.UP_RIGHT.route(source, target);
+    }
+
+    @Benchmark
+    public long between() {
+        return Direction.UP_RIGHT.between(source, target);
+    }
+
+    @Benchmark
+    public boolean isOnRay() {
+        return Direction.UP_LEFT.isOnRay(source, target);
+    }
+}
@@ -0,0 +1,118 @@
+package chess.benchmark;
+
+import chess.SpringChessApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class EndpointLoadBenchmark {
+
+    private static final String DATABASE_ENV = "CHESS_BENCH_DB";
+    private static final String MYSQL = "mysql";
+    private static final String H2_URL = "jdbc:h2:mem:endpoint_load;DB_CLOSE_DELAY=-1";
+    private static final String[][] KNIGHT_MOVES = {{"g1", "f3"}, {"g8", "f6"}, {"f3", "g1"}, {"f6", "g8"}};
+
+    @Param({"default", "prod"})
+    public String profile;
+
+    private final AtomicInteger gameCount = new AtomicInteger();
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void startServer() {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.profiles.active=" + profile,
+                "--spring.sql.init.mode=always",
+                "--chess.archive.enabled=false"
+        ));
+        if (!MYSQL.equals(System.getenv(DATABASE_ENV))) {
+            args.add("--spring.datasource.url=" + H2_URL);
+            args.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            args.add("--spring.datasource.username=sa");
+            args.add("--spring.datasource.password=");
+        }
+        context = SpringApplication.run(SpringChessApplication.class, args.toArray(new String[0]));
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/chessgames";
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Player {
+
+        private String moveUrl;
+        private int moveIndex;
+
+        @Setup(Level.Trial)
+        public void createChessGame(EndpointLoadBenchmark benchmark) throws IOException, InterruptedException {
+            String title = "load-" + benchmark.gameCount.incrementAndGet();
+            String body = "{\"title\":\"" + title + "\",\"password\":\"password\"}";
+            HttpResponse<String> response = benchmark.send(HttpRequest.newBuilder(URI.create(benchmark.baseUrl))
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString(body)), 201);
+            String location = response.headers().firstValue("Location").orElseThrow();
+            moveUrl = benchmark.baseUrl + location.substring(location.lastIndexOf('/')) + "/move";
+        }
+
+        private String nextMove() {
+            String[] move = KNIGHT_MOVES[moveIndex];
+            moveIndex = (moveIndex + 1) % KNIGHT_MOVES.length;
+            return "{\"source\":\"" + move[0] + "\",\"target\":\"" + move[1] + "\"}";
+        }
+    }
+
+    @Benchmark
+    public int move(Player player) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(player.moveUrl))
+                .header("Content-Type", "application/json")
+                .method("PATCH", BodyPublishers.ofString(player.nextMove())), 204).statusCode();
+    }
+
+    @Benchmark
+    public String findChessGames(Player player) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "?limit=20")).GET(), 200).body();
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request, int expectedStatus)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request.build(), BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(response.statusCode() + " " + response.body());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,134 @@
+package chess.benchmark;
+
+import static chess.domain.state.Turn.BLACK_TURN;
+import static chess.domain.state.Turn.WHITE_TURN;
+
+import chess.dao.ChessGameArchiveDao;
+import chess.dao.ChessGameDao;
+import chess.dao.MoveDao;
+import chess.dao.PieceDao;
+import chess.domain.ChessGame;
+import chess.domain.Move;
+import chess.domain.Position;
+import chess.domain.piece.PieceFactory;
+import chess.service.ChessGameCache;
+import chess.service.ChessGameLocks;
+import chess.service.ChessGameService;
+import chess.service.ChessGameWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MovePersistenceBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:move_persistence;DB_CLOSE_DELAY=-1";
+    private static final List<Move> KNIGHT_MOVES = List.of(
+            new Move(Position.from("g1"), Position.from("f3")),
+            new Move(Position.from("g8"), Position.from("f6")),
+            new Move(Position.from("f3"), Position.from("g1")),
+            new Move(Position.from("f6"), Position.from("g8"))
+    );
+
+    private StatementCountingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ChessGameService chessGameService;
+    private long eventLogGameId;
+    private long inPlaceGameId;
+    private int moveIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new StatementCountingDataSource(new DriverManagerDataSource(URL, "sa", ""));
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        PieceDao pieceDao = new PieceDao(jdbcTemplate);
+        ChessGameDao chessGameDao = new ChessGameDao(jdbcTemplate, dataSource);
+        MoveDao moveDao = new MoveDao(jdbcTemplate);
+        ChessGameCache chessGameCache = new ChessGameCache(16, 30);
+        chessGameService = new ChessGameService(pieceDao, chessGameDao, moveDao, new ChessGameArchiveDao(jdbcTemplate),
+                new ChessGameWriter(moveDao, pieceDao, chessGameCache, false, 100, 100, 0), chessGameCache,
+                new ChessGameLocks(1), event -> {
+                });
+
+        eventLogGameId = chessGameService.createNewChessGame("event-log", "password");
+        inPlaceGameId = chessGameDao.createChessGame(new ChessGame(WHITE_TURN.name(), "in-place", "password"))
+                .getId();
+        pieceDao.savePieces(inPlaceGameId, PieceFactory.createNewChessBoard());
+        chessGameService.currentScore(eventLogGameId);
+    }
+
+    @Benchmark
+    public void eventLogMove(RoundTrips roundTrips) {
+        Move move = nextMove();
+        long before = dataSource.statementCount();
+        chessGameService.move(eventLogGameId, move.source(), move.target());
+        roundTrips.record(dataSource.statementCount() - before);
+    }
+
+    @Benchmark
+    public void inPlaceMove(RoundTrips roundTrips) {
+        Move move = nextMove();
+        long before = dataSource.statementCount();
+        jdbcTemplate.update("delete from piece where chess_game_id = ? and square = ?",
+                inPlaceGameId, move.target().index());
+        jdbcTemplate.update("update piece set square = ? where chess_game_id = ? and square = ?",
+                move.target().index(), inPlaceGameId, move.source().index());
+        jdbcTemplate.update("update chess_game set turn = ? where id = ?", nextTurnName(), inPlaceGameId);
+        roundTrips.record(dataSource.statementCount() - before);
+    }
+
+    private Move nextMove() {
+        Move move = KNIGHT_MOVES.get(moveIndex);
+        moveIndex = (moveIndex + 1) % KNIGHT_MOVES.size();
+        return move;
+    }
+
+    private String nextTurnName() {
+        if (moveIndex % 2 == 1) {
+            return BLACK_TURN.name();
+        }
+        return WHITE_TURN.name();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RoundTrips {
+
+        public long statements;
+        public long moves;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            moves = 0;
+        }
+
+        void record(long statementCount) {
+            statements += statementCount;
+            moves++;
+        }
+
+        public double statementsPerMove() {
+            if (moves == 0) {
+                return 0;
+            }
+            return (double) statements / moves;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package chess.benchmark;
+
+import static chess.domain.Color.BLACK;
+import static chess.domain.Color.WHITE;
+
+import chess.domain.ChessBoard;
+import chess.domain.Color;
+import chess.domain.Perft;
+import chess.domain.PieceConverter;
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceFactory;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+public class PerftRunner {
+
+    private static final int DEFAULT_DEPTH = 4;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private static final Map<String, String> TEST_POSITIONS = new LinkedHashMap<>();
+
+    static {
+        TEST_POSITIONS.put("kiwipete", "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R");
+        TEST_POSITIONS.put("endgame", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8");
+        TEST_POSITIONS.put("middlegame", "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1");
+    }
+
+    private PerftRunner() {
+    }
+
+    public static void main(String[] args) {
+        int depth = DEFAULT_DEPTH;
+        if (args.length > 0) {
+            depth = Integer.parseInt(args[0]);
+        }
+        run("initial", PieceFactory.createNewChessBoard(), depth);
+        for (Entry<String, String> testPosition : TEST_POSITIONS.entrySet()) {
+            run(testPosition.getKey(), parsePlacement(testPosition.getValue()), depth);
+        }
+    }
+
+    private static void run(String name, Map<Position, Piece> pieces, int maxDepth) {
+        for (int depth = 1; depth <= maxDepth; depth++) {
+            Perft perft = new Perft(new ChessBoard(pieces));
+            long start = System.nanoTime();
+            long nodes = perft.count(WHITE, depth);
+            long elapsed = Math.max(System.nanoTime() - start, 1);
+            System.out.printf("%-12s depth %d: %,12d nodes %10.1f ms %,14d nodes/sec%n",
+                    name, depth, nodes, elapsed / 1_000_000.0, nodes * NANOS_PER_SECOND / elapsed);
+        }
+    }
+
+    private static Map<Position, Piece> parsePlacement(String placement) {
+        Map<Position, Piece> pieces = new HashMap<>();
+        String[] rows = placement.split("/");
+        for (int i = 0; i < rows.length; i++) {
+            char row = (char) ('8' - i);
+            char column = 'a';
+            for (char symbol : rows[i].toCharArray()) {
+                if (Character.isDigit(symbol)) {
+                    column += symbol - '0';
+                    continue;
+                }
+                pieces.put(Position.of(column, row), parsePiece(symbol));
+                column++;
+            }
+        }
+        return pieces;
+    }
+
+    private static Piece parsePiece(char symbol) {
+        Color color = WHITE;
+        if (Character.isLowerCase(symbol)) {
+            color = BLACK;
+        }
+        return PieceConverter.parseToPiece(pieceName(Character.toLowerCase(symbol)), color);
+    }
+
+    private static String pieceName(char symbol) {
+        switch (symbol) {
+            case 'k':
+                return "king";
+            case 'q':
+                return "queen";
+            case 'r':
+                return "rook";
+            case 'b':
+                return "bishop";
+            case 'n':
+                return "knight";
+            case 'p':
+                return "pawn";
+            default:
+                throw new IllegalArgumentException("없는 기물 정보입니다.");
+        }
+    }
+}
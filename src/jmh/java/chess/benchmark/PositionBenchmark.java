@@ -0,0 +1,31 @@
+package chess.benchmark;
+
+import chess.domain.Position;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PositionBenchmark {
+
+    @Benchmark
+    public void of(Blackhole blackhole) {
+        for (char column = 'a'; column <= 'h'; column++) {
+            for (char row = '1'; row <= '8'; row++) {
+                blackhole.consume(Position.of(column, row));
+            }
+        }
+    }
+
+    @Benchmark
+    public void from(Blackhole blackhole) {
+        blackhole.consume(Position.from("e4"));
+    }
+}
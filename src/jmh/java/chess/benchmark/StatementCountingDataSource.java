@@ -0,0 +1,77 @@
+package chess.benchmark;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final String EXECUTE_PREFIX = "execute";
+
+    private final AtomicLong statementCount = new AtomicLong();
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    public long statementCount() {
+        return statementCount.get();
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement) {
+                return countingStatement((Statement) result);
+            }
+            return result;
+        });
+    }
+
+    private Statement countingStatement(Statement statement) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().startsWith(EXECUTE_PREFIX)) {
+                statementCount.incrementAndGet();
+            }
+            return invoke(statement, method, args);
+        };
+        if (statement instanceof CallableStatement) {
+            return proxy(CallableStatement.class, handler);
+        }
+        if (statement instanceof PreparedStatement) {
+            return proxy(PreparedStatement.class, handler);
+        }
+        return proxy(Statement.class, handler);
+    }
+
+    private <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package chess.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("prod")
+public class ProductionDataSourceConfig {
+
+    private static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    @Bean
+    public static BeanPostProcessor connectionPoolSizer(
+            @Value("${chess.datasource.connections-per-core:2}") int connectionsPerCore) {
+        if (connectionsPerCore <= 0) {
+            throw new IllegalArgumentException("코어당 커넥션 수는 1 이상이어야 합니다.");
+        }
+        int poolSize = Runtime.getRuntime().availableProcessors() * connectionsPerCore + 1;
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource && !REPLICA_DATA_SOURCE.equals(beanName)) {
+                    HikariDataSource dataSource = (HikariDataSource) bean;
+                    dataSource.setMaximumPoolSize(poolSize);
+                    dataSource.setMinimumIdle(poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package chess.config;
+
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUESTED = ThreadLocal.withInitial(() -> false);
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public static <T> T onPrimary(Supplier<T> command) {
+        boolean previous = PRIMARY_REQUESTED.get();
+        PRIMARY_REQUESTED.set(true);
+        try {
+            return command.get();
+        } finally {
+            PRIMARY_REQUESTED.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PRIMARY_REQUESTED.get()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    private enum Route {
+        PRIMARY,
+        REPLICA,
+    }
+}
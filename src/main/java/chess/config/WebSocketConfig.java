@@ -0,0 +1,23 @@
+package chess.config;
+
+import chess.controller.socket.ChessGameSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final ChessGameSocketHandler chessGameSocketHandler;
+
+    public WebSocketConfig(ChessGameSocketHandler chessGameSocketHandler) {
+        this.chessGameSocketHandler = chessGameSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(chessGameSocketHandler, "/chessgames/*/ws");
+    }
+}
@@ -4,16 +4,33 @@ import chess.controller.dto.request.ChessGamePasswordRequest;
 import chess.controller.dto.request.ChessGameRequest;
 import chess.controller.dto.request.PieceMoveRequest;
 import chess.controller.dto.request.PromotionRequest;
+import chess.controller.dto.response.ChessGameErrorResponse;
 import chess.controller.dto.response.ChessGameResponse;
 import chess.controller.dto.response.ChessGameScoreResponse;
 import chess.controller.dto.response.ChessGameStatusResponse;
 import chess.controller.dto.response.ChessGameWinnerResponse;
+import chess.controller.dto.response.MoveResponse;
 import chess.controller.dto.response.PieceResponse;
+import chess.domain.ChessGameStatus;
+import chess.domain.Move;
+import chess.domain.MoveResult;
+import chess.domain.Position;
+import chess.service.ChessBoardView;
 import chess.service.ChessGameService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,17 +38,30 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/chessgames")
 public class ChessGameController {
 
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String CHESS_BOARD_VERSION_HEADER = "Chess-Board-Version";
+
     private final ChessGameService chessGameService;
+    private final ChessGameEventBroadcaster chessGameEventBroadcaster;
+    private final ObjectWriter chessGameResponseWriter;
 
-    public ChessGameController(ChessGameService chessGameService) {
+    public ChessGameController(ChessGameService chessGameService, ChessGameEventBroadcaster chessGameEventBroadcaster,
+                               ObjectMapper objectMapper) {
         this.chessGameService = chessGameService;
+        this.chessGameEventBroadcaster = chessGameEventBroadcaster;
+        this.chessGameResponseWriter = objectMapper.writerFor(ChessGameResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @PostMapping
@@ -42,23 +72,99 @@ public class ChessGameController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ChessGameResponse>> findAllChessGame() {
-        List<ChessGameResponse> chessGameResponses = chessGameService.findAllChessGame().stream()
+    public ResponseEntity<List<ChessGameResponse>> findChessGames(@RequestParam(defaultValue = "0") long after,
+                                                                  @RequestParam(defaultValue = "20") int limit,
+                                                                  @RequestParam(required = false) String status) {
+        List<ChessGameResponse> chessGameResponses = chessGameService.findChessGames(after, limit,
+                        toChessGameStatus(status))
+                .stream()
                 .map(ChessGameResponse::of)
                 .collect(Collectors.toList());
         return ResponseEntity.ok().body(chessGameResponses);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportChessGames() {
+        StreamingResponseBody responseBody = outputStream -> {
+            chessGameService.forEachChessGame(chessGameSummary ->
+                    writeLine(outputStream, ChessGameResponse.of(chessGameSummary)));
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(responseBody);
+    }
+
+    private void writeLine(OutputStream outputStream, ChessGameResponse chessGameResponse) {
+        try {
+            chessGameResponseWriter.writeValue(outputStream, chessGameResponse);
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ChessGameStatus toChessGameStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        return ChessGameStatus.from(status);
+    }
+
     @PostMapping("/{chessGameId}")
     public ResponseEntity<List<PieceResponse>> loadChessGame(@PathVariable long chessGameId,
+                                                             @RequestParam(required = false) Long since,
+                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH,
+                                                                     required = false) String ifNoneMatch,
                                                              @Valid @RequestBody ChessGamePasswordRequest chessGamePasswordRequest) {
-        List<PieceResponse> pieceResponses = chessGameService.findChessBoard(chessGameId,
-                        chessGamePasswordRequest.getPassword())
-                .entrySet()
-                .stream()
-                .map(PieceResponse::from)
+        String password = chessGamePasswordRequest.getPassword();
+        if (ifNoneMatch != null) {
+            String eTag = toETag(chessGameService.findChessBoardVersion(chessGameId, password));
+            if (matchesETag(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        ChessBoardView chessBoardView = findChessBoard(chessGameId, password, since);
+        List<PieceResponse> pieceResponses = Stream.concat(
+                        chessBoardView.getPieces().entrySet().stream().map(PieceResponse::from),
+                        chessBoardView.getEmptyPositions().stream().map(PieceResponse::empty))
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(pieceResponses);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(CHESS_BOARD_VERSION_HEADER, String.valueOf(chessBoardView.getVersion()));
+        if (since == null) {
+            response.eTag(toETag(chessBoardView.getVersion()));
+        }
+        return response.body(pieceResponses);
+    }
+
+    private ChessBoardView findChessBoard(long chessGameId, String password, Long since) {
+        if (since == null) {
+            return chessGameService.findChessBoard(chessGameId, password);
+        }
+        return chessGameService.findChessBoard(chessGameId, password, since);
+    }
+
+    private String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith(WEAK_ETAG_PREFIX)) {
+                trimmed = trimmed.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if (trimmed.equals("*") || trimmed.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @GetMapping(value = "/{chessGameId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents(@PathVariable long chessGameId, @RequestParam String password) {
+        return chessGameEventBroadcaster.subscribe(chessGameId,
+                () -> chessGameService.findChessGame(chessGameId, password));
     }
 
     @DeleteMapping("/{chessGameId}")
@@ -69,9 +175,13 @@ public class ChessGameController {
     }
 
     @PatchMapping("/{chessGameId}/move")
-    public ResponseEntity<Void> movePiece(@PathVariable long chessGameId,
-                                          @Valid @RequestBody PieceMoveRequest pieceMoveRequest) {
-        chessGameService.move(chessGameId, pieceMoveRequest.toSourcePosition(), pieceMoveRequest.toTargetPosition());
+    public ResponseEntity<ChessGameErrorResponse> movePiece(@PathVariable long chessGameId,
+                                                            @Valid @RequestBody PieceMoveRequest pieceMoveRequest) {
+        MoveResult moveResult = chessGameService.move(chessGameId, pieceMoveRequest.toSourcePosition(),
+                pieceMoveRequest.toTargetPosition());
+        if (!moveResult.isSuccess()) {
+            return ResponseEntity.badRequest().body(ChessGameErrorResponse.create(moveResult.getMessage()));
+        }
         return ResponseEntity.noContent().build();
     }
 
@@ -98,6 +208,23 @@ public class ChessGameController {
         return ResponseEntity.ok(chessGameScoreResponses);
     }
 
+    @GetMapping("/{chessGameId}/moves")
+    public ResponseEntity<List<MoveResponse>> movableMoves(@PathVariable long chessGameId,
+                                                           @RequestParam(required = false) String source) {
+        List<MoveResponse> moveResponses = findMovableMoves(chessGameId, source)
+                .stream()
+                .map(MoveResponse::from)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(moveResponses);
+    }
+
+    private List<Move> findMovableMoves(long chessGameId, String source) {
+        if (source == null) {
+            return chessGameService.movableMoves(chessGameId);
+        }
+        return chessGameService.movableMoves(chessGameId, Position.from(source));
+    }
+
     @GetMapping("/{chessGameId}/status")
     public ResponseEntity<ChessGameStatusResponse> chessGameStatus(@PathVariable long chessGameId) {
         return ResponseEntity.ok(new ChessGameStatusResponse(chessGameService.isEndGame(chessGameId)));
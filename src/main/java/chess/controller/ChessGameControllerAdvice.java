@@ -4,6 +4,8 @@ import chess.controller.dto.response.ChessGameErrorResponse;
 import java.util.NoSuchElementException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -27,6 +29,11 @@ public class ChessGameControllerAdvice {
         return ResponseEntity.badRequest().body(ChessGameErrorResponse.from(runtimeException));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ChessGameErrorResponse> handleConflictException(RuntimeException runtimeException) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ChessGameErrorResponse.from(runtimeException));
+    }
+
     @ExceptionHandler(EmptyResultDataAccessException.class)
     public ResponseEntity<Void> handleNotFoundException() {
         return ResponseEntity.notFound().build();
@@ -0,0 +1,249 @@
+package chess.controller;
+
+import chess.controller.dto.response.ChessGameEventResponse;
+import chess.domain.ChessGame;
+import chess.domain.state.Turn;
+import chess.service.MoveRecordedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class ChessGameEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(ChessGameEventBroadcaster.class);
+
+    private final ObjectWriter eventWriter;
+    private final long timeoutMillis;
+    private final long sendTimeLimitMillis;
+    private final int queueCapacity;
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+
+    public ChessGameEventBroadcaster(ObjectMapper objectMapper,
+                                     @Value("${chess.events.timeout-millis:1800000}") long timeoutMillis,
+                                     @Value("${chess.events.send-time-limit-millis:1000}") long sendTimeLimitMillis,
+                                     @Value("${chess.events.queue-capacity:32}") int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("이벤트 대기열 크기는 1 이상이어야 합니다.");
+        }
+        this.eventWriter = objectMapper.writerFor(ChessGameEventResponse.class);
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.queueCapacity = queueCapacity;
+        this.sender = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "chess-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SseEmitter subscribe(long chessGameId, Supplier<ChessGame> currentChessGame) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(chessGameId, emitter);
+        subscribers.compute(chessGameId, (id, gameSubscribers) -> {
+            if (gameSubscribers == null) {
+                gameSubscribers = new CopyOnWriteArraySet<>();
+            }
+            gameSubscribers.add(subscriber);
+            return gameSubscribers;
+        });
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        try {
+            sync(subscriber, currentChessGame.get());
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    private void sync(Subscriber subscriber, ChessGame chessGame) throws IOException {
+        ChessGameEventResponse syncEvent = ChessGameEventResponse.sync(chessGame);
+        send(subscriber.emitter, new Event(String.valueOf(chessGame.getVersion()), syncEvent.getType(),
+                serialize(syncEvent), false));
+        if (Turn.END.name().equals(chessGame.getTurn())) {
+            complete(subscriber);
+        }
+    }
+
+    private void complete(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.chessGameId, (id, gameSubscribers) -> {
+            gameSubscribers.remove(subscriber);
+            if (gameSubscribers.isEmpty()) {
+                return null;
+            }
+            return gameSubscribers;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMoveRecorded(MoveRecordedEvent event) {
+        long chessGameId = event.getChessGameId();
+        if (!subscribers.containsKey(chessGameId)) {
+            return;
+        }
+        ChessGameEventResponse chessGameEventResponse = ChessGameEventResponse.from(event.getMoveRecord());
+        Event chessGameEvent = new Event(String.valueOf(event.getMoveRecord().ply()),
+                chessGameEventResponse.getType(), serialize(chessGameEventResponse),
+                event.getMoveRecord().turn().isEnd());
+        subscribers.getOrDefault(chessGameId, Set.of())
+                .forEach(subscriber -> subscriber.offer(chessGameEvent));
+    }
+
+    private String serialize(ChessGameEventResponse chessGameEventResponse) {
+        try {
+            return eventWriter.writeValueAsString(chessGameEventResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("체스 게임 이벤트를 변환할 수 없습니다.", e);
+        }
+    }
+
+    private void send(SseEmitter emitter, Event event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(event.id)
+                .name(event.name)
+                .data(event.data));
+    }
+
+    int subscriberCount(long chessGameId) {
+        return subscribers.getOrDefault(chessGameId, Set.of()).size();
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdown();
+        subscribers.values().forEach(gameSubscribers -> gameSubscribers.forEach(
+                subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private class Subscriber {
+
+        private final long chessGameId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Event> events = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendStartedAt;
+        private volatile boolean dropped;
+
+        private Subscriber(long chessGameId, SseEmitter emitter) {
+            this.chessGameId = chessGameId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Event event) {
+            if (isSendOverdue() || !events.offer(event)) {
+                drop();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private boolean isSendOverdue() {
+            long startedAt = sendStartedAt;
+            return startedAt != 0 && System.currentTimeMillis() - startedAt > sendTimeLimitMillis;
+        }
+
+        private void drop() {
+            log.debug("체스 게임 {}의 이벤트를 따라오지 못하는 구독자를 끊습니다.", chessGameId);
+            dropped = true;
+            unsubscribe(this);
+            events.clear();
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.debug("종료 중이라 체스 게임 {}의 이벤트를 보내지 않습니다.", chessGameId);
+            }
+        }
+
+        private void drain() {
+            do {
+                Event event;
+                while ((event = events.poll()) != null) {
+                    if (!deliver(event)) {
+                        return;
+                    }
+                }
+                if (dropped) {
+                    emitter.complete();
+                    return;
+                }
+                draining.set(false);
+            } while ((dropped || !events.isEmpty()) && draining.compareAndSet(false, true));
+        }
+
+        private boolean deliver(Event event) {
+            if (dropped) {
+                emitter.complete();
+                return false;
+            }
+            sendStartedAt = System.currentTimeMillis();
+            try {
+                send(emitter, event);
+                if (event.last) {
+                    complete(this);
+                    return false;
+                }
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(this);
+                return false;
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+    }
+
+    private static class Event {
+
+        private final String id;
+        private final String name;
+        private final String data;
+        private final boolean last;
+
+        private Event(String id, String name, String data, boolean last) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+            this.last = last;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package chess.controller.dto.response;
+
+import chess.domain.ChessGame;
+import chess.domain.MoveRecord;
+import chess.domain.Position;
+
+public class ChessGameEventResponse {
+
+    private static final String SYNC = "sync";
+    private static final String MOVE = "move";
+    private static final String PROMOTION = "promotion";
+    private static final String END = "end";
+
+    private String type;
+    private long version;
+    private String turn;
+    private String source;
+    private String target;
+    private String piece;
+
+    private ChessGameEventResponse() {
+    }
+
+    private ChessGameEventResponse(String type, long version, String turn, String source, String target,
+                                   String piece) {
+        this.type = type;
+        this.version = version;
+        this.turn = turn;
+        this.source = source;
+        this.target = target;
+        this.piece = piece;
+    }
+
+    public static ChessGameEventResponse sync(ChessGame chessGame) {
+        return new ChessGameEventResponse(SYNC, chessGame.getVersion(), chessGame.getTurn(), null, null, null);
+    }
+
+    public static ChessGameEventResponse from(MoveRecord moveRecord) {
+        String turn = moveRecord.turn().name();
+        if (moveRecord.isEnd()) {
+            return new ChessGameEventResponse(END, moveRecord.ply(), turn, null, null, null);
+        }
+        if (moveRecord.isPromotion()) {
+            return new ChessGameEventResponse(PROMOTION, moveRecord.ply(), turn, positionName(moveRecord.source()),
+                    null, moveRecord.promotionPiece().pieceRule().name());
+        }
+        return new ChessGameEventResponse(MOVE, moveRecord.ply(), turn, positionName(moveRecord.source()),
+                positionName(moveRecord.target()), null);
+    }
+
+    private static String positionName(Position position) {
+        return position.column() + position.row();
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getTurn() {
+        return turn;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public String getPiece() {
+        return piece;
+    }
+}
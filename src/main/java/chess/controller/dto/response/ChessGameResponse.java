@@ -1,6 +1,6 @@
 package chess.controller.dto.response;
 
-import chess.domain.ChessGame;
+import chess.domain.ChessGameSummary;
 
 public class ChessGameResponse {
 
@@ -15,8 +15,8 @@ public class ChessGameResponse {
         this.title = title;
     }
 
-    public static ChessGameResponse of(ChessGame chessGame) {
-        return new ChessGameResponse(chessGame.getId(), chessGame.getTitle());
+    public static ChessGameResponse of(ChessGameSummary chessGameSummary) {
+        return new ChessGameResponse(chessGameSummary.getId(), chessGameSummary.getTitle());
     }
 
     public long getId() {
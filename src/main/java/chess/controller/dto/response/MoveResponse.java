@@ -0,0 +1,34 @@
+package chess.controller.dto.response;
+
+import chess.domain.Move;
+import chess.domain.Position;
+
+public class MoveResponse {
+
+	private String source;
+	private String target;
+
+	private MoveResponse() {
+	}
+
+	private MoveResponse(String source, String target) {
+		this.source = source;
+		this.target = target;
+	}
+
+	public static MoveResponse from(Move move) {
+		return new MoveResponse(positionName(move.source()), positionName(move.target()));
+	}
+
+	private static String positionName(Position position) {
+		return position.column() + position.row();
+	}
+
+	public String getSource() {
+		return source;
+	}
+
+	public String getTarget() {
+		return target;
+	}
+}
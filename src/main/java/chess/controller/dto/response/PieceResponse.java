@@ -26,6 +26,10 @@ public class PieceResponse {
 		return new PieceResponse(positionName(position), piece.name(), toLowerName(piece.color().name()));
 	}
 
+	public static PieceResponse empty(Position position) {
+		return new PieceResponse(positionName(position), null, null);
+	}
+
 	private static String positionName(Position position) {
 		return position.column() + position.row();
 	}
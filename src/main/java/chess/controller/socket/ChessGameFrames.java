@@ -0,0 +1,68 @@
+package chess.controller.socket;
+
+import chess.domain.ChessGame;
+import chess.domain.MoveRecord;
+import chess.domain.MoveResult;
+import chess.domain.state.Turn;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class ChessGameFrames {
+
+    static final byte SYNC = 0;
+    static final byte MOVE = 1;
+    static final byte PROMOTION = 2;
+    static final byte END = 3;
+    static final byte REJECTED = 0x7F;
+    static final byte OTHER_REASON = (byte) 0xFF;
+
+    private static final int RECORD_FRAME_SIZE = 8;
+    private static final int REJECTED_HEADER_SIZE = 2;
+    private static final int NO_MOVE = 0;
+
+    private ChessGameFrames() {
+        throw new AssertionError();
+    }
+
+    public static byte[] sync(ChessGame chessGame) {
+        return record(SYNC, NO_MOVE, chessGame.getVersion(), Turn.valueOf(chessGame.getTurn()));
+    }
+
+    public static byte[] recorded(MoveRecord moveRecord) {
+        if (moveRecord.isEnd()) {
+            return record(END, NO_MOVE, moveRecord.ply(), moveRecord.turn());
+        }
+        if (moveRecord.isPromotion()) {
+            return record(PROMOTION, MoveFrame.toWord(moveRecord.source(), moveRecord.source(),
+                    moveRecord.promotionPiece()), moveRecord.ply(), moveRecord.turn());
+        }
+        return record(MOVE, MoveFrame.toWord(moveRecord.source(), moveRecord.target(), null), moveRecord.ply(),
+                moveRecord.turn());
+    }
+
+    private static byte[] record(byte kind, int word, long version, Turn turn) {
+        return ByteBuffer.allocate(RECORD_FRAME_SIZE)
+                .put(kind)
+                .putShort((short) word)
+                .putInt((int) version)
+                .put((byte) turn.ordinal())
+                .array();
+    }
+
+    public static byte[] rejected(MoveResult moveResult) {
+        return rejected((byte) moveResult.ordinal(), moveResult.getMessage());
+    }
+
+    public static byte[] rejected(String message) {
+        return rejected(OTHER_REASON, message);
+    }
+
+    private static byte[] rejected(byte reason, String message) {
+        byte[] encodedMessage = message.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(REJECTED_HEADER_SIZE + encodedMessage.length)
+                .put(REJECTED)
+                .put(reason)
+                .put(encodedMessage)
+                .array();
+    }
+}
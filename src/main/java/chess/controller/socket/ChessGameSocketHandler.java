@@ -0,0 +1,178 @@
+package chess.controller.socket;
+
+import chess.domain.ChessGame;
+import chess.domain.MoveRecord;
+import chess.domain.MoveResult;
+import chess.domain.state.Turn;
+import chess.service.ChessGameService;
+import chess.service.MoveRecordedEvent;
+import java.io.IOException;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.util.UriTemplate;
+
+@Component
+public class ChessGameSocketHandler extends BinaryWebSocketHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ChessGameSocketHandler.class);
+    private static final UriTemplate PATH = new UriTemplate("/chessgames/{chessGameId}/ws");
+    private static final String CHESS_GAME_ID = "chessGameId";
+    private static final String INTERNAL_EXCEPTION_MESSAGE = "서버 내부 에러입니다.";
+
+    private final ChessGameService chessGameService;
+    private final int sendTimeLimitMillis;
+    private final int bufferSizeLimit;
+    private final Map<Long, Map<String, WebSocketSession>> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+
+    public ChessGameSocketHandler(ChessGameService chessGameService,
+                                  @Value("${chess.websocket.send-time-limit-millis:1000}") int sendTimeLimitMillis,
+                                  @Value("${chess.websocket.buffer-size-limit:65536}") int bufferSizeLimit) {
+        this.chessGameService = chessGameService;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.sender = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chess-socket-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws IOException {
+        long chessGameId = chessGameIdOf(session);
+        session.getAttributes().put(CHESS_GAME_ID, chessGameId);
+        WebSocketSession concurrentSession = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMillis,
+                bufferSizeLimit);
+        sessions.computeIfAbsent(chessGameId, id -> new ConcurrentHashMap<>())
+                .put(session.getId(), concurrentSession);
+        ChessGame chessGame;
+        try {
+            chessGame = chessGameService.findChessGame(chessGameId);
+        } catch (EmptyResultDataAccessException e) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("없는 체스 게임입니다."));
+            return;
+        }
+        send(concurrentSession, ChessGameFrames.sync(chessGame));
+        if (Turn.END.name().equals(chessGame.getTurn())) {
+            concurrentSession.close(CloseStatus.NORMAL);
+        }
+    }
+
+    private long chessGameIdOf(WebSocketSession session) {
+        Map<String, String> variables = PATH.match(session.getUri().getPath());
+        return Long.parseLong(variables.get(CHESS_GAME_ID));
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        long chessGameId = (long) session.getAttributes().get(CHESS_GAME_ID);
+        WebSocketSession concurrentSession = sessions.getOrDefault(chessGameId, Map.of())
+                .getOrDefault(session.getId(), session);
+        try {
+            MoveResult moveResult = apply(chessGameId, MoveFrame.decode(message.getPayload()));
+            if (!moveResult.isSuccess()) {
+                send(concurrentSession, ChessGameFrames.rejected(moveResult));
+            }
+        } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException
+                | OptimisticLockingFailureException e) {
+            send(concurrentSession, ChessGameFrames.rejected(e.getMessage()));
+        } catch (DataAccessException e) {
+            log.error("체스 게임 {}의 이동 프레임 처리 중 오류가 발생했습니다.", chessGameId, e);
+            send(concurrentSession, ChessGameFrames.rejected(INTERNAL_EXCEPTION_MESSAGE));
+        }
+    }
+
+    private MoveResult apply(long chessGameId, MoveFrame moveFrame) {
+        if (moveFrame.isPromotionOnly()) {
+            chessGameService.promotion(chessGameId, moveFrame.getPromotionPiece());
+            return MoveResult.SUCCESS;
+        }
+        if (moveFrame.hasPromotion()) {
+            return chessGameService.moveAndPromote(chessGameId, moveFrame.getSource(), moveFrame.getTarget(),
+                    moveFrame.getPromotionPiece());
+        }
+        return chessGameService.move(chessGameId, moveFrame.getSource(), moveFrame.getTarget());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Object chessGameId = session.getAttributes().get(CHESS_GAME_ID);
+        if (chessGameId == null) {
+            return;
+        }
+        sessions.computeIfPresent((long) chessGameId, (id, gameSessions) -> {
+            gameSessions.remove(session.getId());
+            if (gameSessions.isEmpty()) {
+                return null;
+            }
+            return gameSessions;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMoveRecorded(MoveRecordedEvent event) {
+        long chessGameId = event.getChessGameId();
+        if (!sessions.containsKey(chessGameId)) {
+            return;
+        }
+        MoveRecord moveRecord = event.getMoveRecord();
+        byte[] frame = ChessGameFrames.recorded(moveRecord);
+        try {
+            sender.execute(() -> broadcast(chessGameId, frame, moveRecord.turn().isEnd()));
+        } catch (RejectedExecutionException e) {
+            log.debug("종료 중이라 체스 게임 {}의 이동 프레임을 보내지 않습니다.", chessGameId);
+        }
+    }
+
+    private void broadcast(long chessGameId, byte[] frame, boolean last) {
+        for (WebSocketSession session : sessions.getOrDefault(chessGameId, Map.of()).values()) {
+            send(session, frame);
+            if (last) {
+                closeQuietly(session);
+            }
+        }
+    }
+
+    private void send(WebSocketSession session, byte[] frame) {
+        try {
+            session.sendMessage(new BinaryMessage(frame));
+        } catch (IOException | IllegalStateException | SessionLimitExceededException e) {
+            closeQuietly(session);
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session) {
+        try {
+            session.close(CloseStatus.NORMAL);
+        } catch (IOException e) {
+            log.debug("웹소켓 세션 {}을 닫지 못했습니다.", session.getId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        sender.shutdown();
+        sessions.values().forEach(gameSessions -> gameSessions.values().forEach(this::closeQuietly));
+        sessions.clear();
+    }
+}
@@ -0,0 +1,81 @@
+package chess.controller.socket;
+
+import chess.domain.Position;
+import chess.domain.PromotionPiece;
+import java.nio.ByteBuffer;
+
+public class MoveFrame {
+
+    private static final int FRAME_SIZE = 2;
+    private static final int SOURCE_SHIFT = 10;
+    private static final int TARGET_SHIFT = 4;
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int PROMOTION_MASK = 0x0F;
+    private static final int NO_PROMOTION = 0;
+
+    private final Position source;
+    private final Position target;
+    private final PromotionPiece promotionPiece;
+
+    private MoveFrame(Position source, Position target, PromotionPiece promotionPiece) {
+        this.source = source;
+        this.target = target;
+        this.promotionPiece = promotionPiece;
+    }
+
+    public static MoveFrame decode(ByteBuffer payload) {
+        if (payload.remaining() != FRAME_SIZE) {
+            throw new IllegalArgumentException("이동 프레임은 2바이트입니다.");
+        }
+        int word = payload.getShort(payload.position()) & 0xFFFF;
+        Position source = Position.fromIndex(word >>> SOURCE_SHIFT & SQUARE_MASK);
+        Position target = Position.fromIndex(word >>> TARGET_SHIFT & SQUARE_MASK);
+        return new MoveFrame(source, target, toPromotionPiece(word & PROMOTION_MASK));
+    }
+
+    private static PromotionPiece toPromotionPiece(int promotionCode) {
+        if (promotionCode == NO_PROMOTION) {
+            return null;
+        }
+        if (promotionCode > PromotionPiece.values().length) {
+            throw new IllegalArgumentException("불가능한 프로모션 기물 이름입니다.");
+        }
+        return PromotionPiece.values()[promotionCode - 1];
+    }
+
+    public static byte[] encode(Position source, Position target, PromotionPiece promotionPiece) {
+        int word = toWord(source, target, promotionPiece);
+        return new byte[]{(byte) (word >>> Byte.SIZE), (byte) word};
+    }
+
+    static int toWord(Position source, Position target, PromotionPiece promotionPiece) {
+        return source.index() << SOURCE_SHIFT | target.index() << TARGET_SHIFT | toPromotionCode(promotionPiece);
+    }
+
+    private static int toPromotionCode(PromotionPiece promotionPiece) {
+        if (promotionPiece == null) {
+            return NO_PROMOTION;
+        }
+        return promotionPiece.ordinal() + 1;
+    }
+
+    public boolean isPromotionOnly() {
+        return source.equals(target) && hasPromotion();
+    }
+
+    public boolean hasPromotion() {
+        return promotionPiece != null;
+    }
+
+    public Position getSource() {
+        return source;
+    }
+
+    public Position getTarget() {
+        return target;
+    }
+
+    public PromotionPiece getPromotionPiece() {
+        return promotionPiece;
+    }
+}
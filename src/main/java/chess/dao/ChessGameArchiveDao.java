@@ -0,0 +1,59 @@
+package chess.dao;
+
+import chess.domain.ArchivedChessGame;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ChessGameArchiveDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ChessGameArchiveDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private RowMapper<ArchivedChessGame> rowMapper() {
+        return (rs, rowNum) -> {
+            final long chessGameId = rs.getLong("chess_game_id");
+            final String title = rs.getString("title");
+            final String password = rs.getString("password");
+            final long version = rs.getLong("version");
+            final byte[] snapshot = rs.getBytes("snapshot");
+            final byte[] moveLog = rs.getBytes("move_log");
+            return new ArchivedChessGame(chessGameId, title, password, version, snapshot, moveLog);
+        };
+    }
+
+    public int save(ArchivedChessGame archivedChessGame) {
+        String sql = "insert into chess_game_archive (chess_game_id, title, password, version, snapshot, move_log) "
+                + "values (?, ?, ?, ?, ?, ?)";
+
+        return jdbcTemplate.update(sql, archivedChessGame.getChessGameId(), archivedChessGame.getTitle(),
+                archivedChessGame.getPassword(), archivedChessGame.getVersion(), archivedChessGame.getSnapshot(),
+                archivedChessGame.getMoveLog());
+    }
+
+    public Optional<ArchivedChessGame> findArchivedChessGame(long chessGameId) {
+        String sql = "select * from chess_game_archive where chess_game_id = ?";
+
+        List<ArchivedChessGame> archivedChessGames = jdbcTemplate.query(sql, rowMapper(), chessGameId);
+        return archivedChessGames.stream().findAny();
+    }
+
+    public boolean existsByTitle(String title) {
+        String sql = "select count(*) from chess_game_archive where title = ?";
+
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, title);
+        return count != null && count > 0;
+    }
+
+    public int delete(long chessGameId) {
+        String sql = "delete from chess_game_archive where chess_game_id = ?";
+
+        return jdbcTemplate.update(sql, chessGameId);
+    }
+}
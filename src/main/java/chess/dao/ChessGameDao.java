@@ -1,11 +1,19 @@
 package chess.dao;
 
 import chess.domain.ChessGame;
+import chess.domain.ChessGameStatus;
+import chess.domain.ChessGameSummary;
 import chess.domain.state.Turn;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.function.Consumer;
 import javax.sql.DataSource;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.BeanPropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -15,6 +23,10 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class ChessGameDao {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final int MYSQL_STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+    private static final String MYSQL_PRODUCT_NAME = "MySQL";
+
     private final JdbcTemplate jdbcTemplate;
     private final SimpleJdbcInsert insertActor;
 
@@ -22,6 +34,7 @@ public class ChessGameDao {
         this.jdbcTemplate = jdbcTemplate;
         this.insertActor = new SimpleJdbcInsert(dataSource)
                 .withTableName("chess_game")
+                .usingColumns("turn", "title", "password")
                 .usingGeneratedKeyColumns("id");
     }
 
@@ -31,7 +44,8 @@ public class ChessGameDao {
             final String turn = rs.getString("turn");
             final String title = rs.getString("title");
             final String password = rs.getString("password");
-            return new ChessGame(id, turn, title, password);
+            final long version = rs.getLong("version");
+            return new ChessGame(id, turn, title, password, version);
         };
     }
 
@@ -46,10 +60,58 @@ public class ChessGameDao {
         }
     }
 
-    public List<ChessGame> findAllChessGame() {
-        String sql = "select * from chess_game";
+    public List<ChessGameSummary> findChessGames(long after, int limit) {
+        String sql = "(select id, title from chess_game where id > ? order by id limit ?) "
+                + "union all (select chess_game_id as id, title from chess_game_archive where chess_game_id > ? "
+                + "order by chess_game_id limit ?) "
+                + "order by id limit ?";
+
+        return jdbcTemplate.query(sql, summaryRowMapper(), after, limit, after, limit, limit);
+    }
+
+    public List<ChessGameSummary> findChessGames(long after, int limit, ChessGameStatus status) {
+        if (status == ChessGameStatus.END) {
+            String sql = "(select id, title from chess_game where turn = ? and id > ? order by id limit ?) "
+                    + "union all (select chess_game_id as id, title from chess_game_archive where chess_game_id > ? "
+                    + "order by chess_game_id limit ?) "
+                    + "order by id limit ?";
+
+            return jdbcTemplate.query(sql, summaryRowMapper(), Turn.END.name(), after, limit, after, limit, limit);
+        }
+        String sql = "select id, title from chess_game where turn in (?, ?) and id > ? order by id limit ?";
+
+        return jdbcTemplate.query(sql, summaryRowMapper(),
+                Turn.WHITE_TURN.name(), Turn.BLACK_TURN.name(), after, limit);
+    }
+
+    public void forEachChessGame(Consumer<ChessGameSummary> action) {
+        String sql = "select id, title from chess_game "
+                + "union all select chess_game_id, title from chess_game_archive order by id";
+
+        jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(streamFetchSize(connection));
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> action.accept(new ChessGameSummary(rs.getLong("id"), rs.getString("title"))));
+    }
+
+    private int streamFetchSize(Connection connection) throws SQLException {
+        if (MYSQL_PRODUCT_NAME.equals(connection.getMetaData().getDatabaseProductName())) {
+            return MYSQL_STREAM_FETCH_SIZE;
+        }
+        return STREAM_FETCH_SIZE;
+    }
+
+    private RowMapper<ChessGameSummary> summaryRowMapper() {
+        return (rs, rowNum) -> new ChessGameSummary(rs.getLong("id"), rs.getString("title"));
+    }
+
+    public List<Long> findEndedChessGameIds(int limit) {
+        String sql = "select id from chess_game where turn = ? order by id limit ?";
 
-        return jdbcTemplate.query(sql, rowMapper());
+        return jdbcTemplate.queryForList(sql, Long.class, Turn.END.name(), limit);
     }
 
     public ChessGame findChessGame(long id) {
@@ -58,10 +120,10 @@ public class ChessGameDao {
         return jdbcTemplate.queryForObject(sql, rowMapper(), id);
     }
 
-    public int changeChessGameTurn(long id, Turn turn) {
-        String sql = "update chess_game set turn = ? where id = ?";
+    public int deleteChessGameById(long id) {
+        String sql = "delete from chess_game where id = ?";
 
-        return jdbcTemplate.update(sql, turn.name(), id);
+        return jdbcTemplate.update(sql, id);
     }
 
     public int deleteChessGame(ChessGame chessGame) {
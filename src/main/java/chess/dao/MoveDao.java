@@ -0,0 +1,102 @@
+package chess.dao;
+
+import chess.domain.MoveRecord;
+import chess.domain.Position;
+import chess.domain.PromotionPiece;
+import chess.domain.state.Turn;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MoveDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MoveDao(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    private RowMapper<MoveRecord> rowMapper() {
+        return (rs, rowNum) -> {
+            final long ply = rs.getLong("ply");
+            final Position source = toPosition(rs.getString("source"));
+            final Position target = toPosition(rs.getString("target"));
+            final PromotionPiece promotionPiece = toPromotionPiece(rs.getString("promotion"));
+            final String captured = rs.getString("captured");
+            final Turn turn = Turn.valueOf(rs.getString("turn"));
+            return new MoveRecord(ply, source, target, promotionPiece, captured, turn);
+        };
+    }
+
+    private Position toPosition(String square) {
+        if (square == null) {
+            return null;
+        }
+        return Position.from(square);
+    }
+
+    private PromotionPiece toPromotionPiece(String promotion) {
+        if (promotion == null) {
+            return null;
+        }
+        return PromotionPiece.valueOf(promotion);
+    }
+
+    public int save(long chessGameId, MoveRecord moveRecord) {
+        String sql = "insert into move (chess_game_id, ply, source, target, promotion, captured, turn) "
+                + "values (?, ?, ?, ?, ?, ?, ?)";
+
+        try {
+            return jdbcTemplate.update(sql, chessGameId, moveRecord.ply(), toSquare(moveRecord.source()),
+                    toSquare(moveRecord.target()), toPromotionName(moveRecord), moveRecord.capturedPiece(),
+                    moveRecord.turn().name());
+        } catch (DuplicateKeyException duplicateKeyException) {
+            throw new OptimisticLockingFailureException("다른 요청이 먼저 체스 게임을 변경했습니다.");
+        }
+    }
+
+    public int saveAll(Map<Long, List<MoveRecord>> moveRecordsByChessGameId) {
+        String sql = "insert into move (chess_game_id, ply, source, target, promotion, captured, turn) "
+                + "values (?, ?, ?, ?, ?, ?, ?)";
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        moveRecordsByChessGameId.forEach((chessGameId, moveRecords) -> {
+            for (MoveRecord moveRecord : moveRecords) {
+                batchArgs.add(new Object[]{chessGameId, moveRecord.ply(), toSquare(moveRecord.source()),
+                        toSquare(moveRecord.target()), toPromotionName(moveRecord), moveRecord.capturedPiece(),
+                        moveRecord.turn().name()});
+            }
+        });
+        try {
+            return jdbcTemplate.batchUpdate(sql, batchArgs).length;
+        } catch (DuplicateKeyException duplicateKeyException) {
+            throw new OptimisticLockingFailureException("다른 요청이 먼저 체스 게임을 변경했습니다.");
+        }
+    }
+
+    private String toSquare(Position position) {
+        if (position == null) {
+            return null;
+        }
+        return position.column() + position.row();
+    }
+
+    private String toPromotionName(MoveRecord moveRecord) {
+        if (!moveRecord.isPromotion()) {
+            return null;
+        }
+        return moveRecord.promotionPiece().name();
+    }
+
+    public List<MoveRecord> findMoveRecords(long chessGameId, long afterPly) {
+        String sql = "select * from move where chess_game_id = ? and ply > ? order by ply";
+
+        return jdbcTemplate.query(sql, rowMapper(), chessGameId, afterPly);
+    }
+}
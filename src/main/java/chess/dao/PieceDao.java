@@ -1,16 +1,18 @@
 package chess.dao;
 
 import chess.domain.ChessBoard;
+import chess.domain.ChessGameSnapshot;
 import chess.domain.Color;
 import chess.domain.PieceConverter;
 import chess.domain.Position;
+import chess.domain.board.BitBoard;
+import chess.domain.board.PackedBoard;
 import chess.domain.piece.Piece;
-import chess.domain.piece.PieceRule;
+import chess.domain.state.Turn;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -27,9 +29,36 @@ public class PieceDao {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    public int saveSnapshot(long chessGameId, Map<Position, Piece> pieces, Turn turn, long version) {
+        String sql = "update chess_game set snapshot = ?, turn = ?, version = ? "
+                + "where id = ? and (version < ? or (version = ? and snapshot is null))";
+
+        return jdbcTemplate.update(sql, PackedBoard.pack(pieces), turn.name(), version, chessGameId,
+                version, version);
+    }
+
+    public int saveSnapshots(List<ChessGameSnapshot> snapshots) {
+        String sql = "update chess_game set snapshot = ?, turn = ?, version = ? "
+                + "where id = ? and (version < ? or (version = ? and snapshot is null))";
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (ChessGameSnapshot snapshot : snapshots) {
+            batchArgs.add(new Object[]{snapshot.getBoard(), snapshot.getTurn().name(), snapshot.getVersion(),
+                    snapshot.getChessGameId(), snapshot.getVersion(), snapshot.getVersion()});
+        }
+        return jdbcTemplate.batchUpdate(sql, batchArgs).length;
+    }
+
+    private void clearSnapshot(long chessGameId) {
+        String sql = "update chess_game set snapshot = null where id = ?";
+
+        jdbcTemplate.update(sql, chessGameId);
+    }
+
     public int savePieces(long chessGameId, Map<Position, Piece> pieces) {
-        String sql = "insert into piece (type, color, position_col, position_row, chess_game_id) values (?, ?, ?, ?, ?)";
+        String sql = "insert into piece (type, color, square, chess_game_id) values (?, ?, ?, ?)";
 
+        clearSnapshot(chessGameId);
         return jdbcTemplate.batchUpdate(sql,
                 pieceSaveBatchSetter(chessGameId, new ArrayList<>(pieces.entrySet()))).length;
     }
@@ -45,9 +74,8 @@ public class PieceDao {
 
                 ps.setString(1, piece.name());
                 ps.setString(2, piece.color().name());
-                ps.setString(3, position.column());
-                ps.setString(4, position.row());
-                ps.setLong(5, chessGameId);
+                ps.setInt(3, position.index());
+                ps.setLong(4, chessGameId);
             }
 
             @Override
@@ -58,42 +86,29 @@ public class PieceDao {
     }
 
     public ChessBoard findChessBoardByChessGameId(long chessGameId) {
+        String sql = "select snapshot from chess_game where id = ?";
+        List<byte[]> snapshots = jdbcTemplate.query(sql, (rs, rowNum) -> rs.getBytes("snapshot"), chessGameId);
+
+        if (snapshots.isEmpty() || snapshots.get(0) == null) {
+            return findChessBoardFromPieces(chessGameId);
+        }
+        return new ChessBoard(PackedBoard.unpack(snapshots.get(0)));
+    }
+
+    public ChessBoard findChessBoardFromPieces(long chessGameId) {
         String sql = "select * from piece where chess_game_id = ?";
         return jdbcTemplate.query(sql, this::chessBoardRowMapper, chessGameId);
     }
 
     private ChessBoard chessBoardRowMapper(ResultSet resultSet) throws SQLException {
-        Map<Position, Piece> pieces = new HashMap<>();
+        BitBoard board = new BitBoard();
         while (resultSet.next()) {
             String type = resultSet.getString("type");
             String colorName = resultSet.getString("color");
-            char column = resultSet.getString("position_col").charAt(0);
-            char row = resultSet.getString("position_row").charAt(0);
-
-            Position position = Position.of(column, row);
+            Position position = Position.fromIndex(resultSet.getInt("square"));
             Color color = Color.valueOf(colorName);
-            pieces.put(position, PieceConverter.parseToPiece(type, color));
+            board.put(position, PieceConverter.parseToPiece(type, color));
         }
-        return new ChessBoard(pieces);
-    }
-
-    public int updatePiecePosition(long chessGameId, Position source, Position target) {
-        String sql = "update piece set position_col = ?, position_row = ? "
-                + "where position_col = ? and position_row = ? and chess_game_id = ?";
-
-        return jdbcTemplate.update(sql, target.column(), target.row(), source.column(), source.row(), chessGameId);
-    }
-
-    public int updatePieceRule(long chessGameId, Position source, PieceRule pieceRule) {
-        String sql = "update piece set type = ? "
-                + "where position_col = ? and position_row = ? and chess_game_id = ?";
-
-        return jdbcTemplate.update(sql, pieceRule.name(), source.column(), source.row(), chessGameId);
-    }
-
-    public int delete(long chessGameId, Position source) {
-        String sql = "delete from piece where position_col = ? and position_row = ? and chess_game_id = ?";
-
-        return jdbcTemplate.update(sql, source.column(), source.row(), chessGameId);
+        return new ChessBoard(board);
     }
 }
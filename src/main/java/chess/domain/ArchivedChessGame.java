@@ -0,0 +1,74 @@
+package chess.domain;
+
+import chess.domain.board.PackedBoard;
+import chess.domain.state.Turn;
+import java.util.List;
+
+public class ArchivedChessGame {
+
+    private final long chessGameId;
+    private final String title;
+    private final String password;
+    private final long version;
+    private final byte[] snapshot;
+    private final byte[] moveLog;
+
+    public ArchivedChessGame(long chessGameId, String title, String password, long version, byte[] snapshot,
+                             byte[] moveLog) {
+        this.chessGameId = chessGameId;
+        this.title = title;
+        this.password = password;
+        this.version = version;
+        this.snapshot = snapshot;
+        this.moveLog = moveLog;
+    }
+
+    public static ArchivedChessGame of(ChessGame chessGame, ChessBoard chessBoard, List<MoveRecord> moveRecords) {
+        return new ArchivedChessGame(chessGame.getId(), chessGame.getTitle(), chessGame.getPassword(),
+                lastPly(chessGame, moveRecords), PackedBoard.pack(chessBoard.getPieces()),
+                MoveLog.compress(moveRecords));
+    }
+
+    private static long lastPly(ChessGame chessGame, List<MoveRecord> moveRecords) {
+        if (moveRecords.isEmpty()) {
+            return chessGame.getVersion();
+        }
+        return Math.max(chessGame.getVersion(), moveRecords.get(moveRecords.size() - 1).ply());
+    }
+
+    public ChessGame toChessGame() {
+        return new ChessGame(chessGameId, Turn.END.name(), title, password, version);
+    }
+
+    public ChessBoard toChessBoard() {
+        return new ChessBoard(PackedBoard.unpack(snapshot));
+    }
+
+    public List<MoveRecord> moveRecords() {
+        return MoveLog.decompress(moveLog);
+    }
+
+    public long getChessGameId() {
+        return chessGameId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public byte[] getSnapshot() {
+        return snapshot.clone();
+    }
+
+    public byte[] getMoveLog() {
+        return moveLog.clone();
+    }
+}
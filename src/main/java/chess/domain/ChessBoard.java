@@ -1,8 +1,11 @@
 package chess.domain;
 
+import chess.domain.board.BitBoard;
+import chess.domain.board.Board;
 import chess.domain.piece.Piece;
+import chess.domain.piece.PieceRule;
+import chess.domain.state.Turn;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
@@ -10,140 +13,167 @@ import java.util.NoSuchElementException;
 public class ChessBoard {
 
     private static final int FINISHED_GAME_KING_COUNT = 1;
-    private static final double PAWN_PENALTY_SCORE = 0.5;
 
-    private final Map<Position, Piece> pieces;
+    private final Board board;
+    private final MaterialScore materialScore;
+    private long hash;
 
     public ChessBoard(Map<Position, Piece> pieces) {
-        this.pieces = new HashMap<>(pieces);
+        this(BitBoard.from(pieces));
     }
 
-    public void movePiece(Position source, Position target, Color color) {
-        validateFinishedGame();
-        validateMovableColor(source, color);
-        validateSameColor(source, target);
+    public ChessBoard(Board board) {
+        this.board = board;
+        this.materialScore = new MaterialScore();
+        for (Entry<Position, Piece> entry : board.toMap().entrySet()) {
+            materialScore.add(entry.getKey(), entry.getValue());
+            hash ^= Zobrist.pieceKey(entry.getKey(), entry.getValue());
+        }
+    }
 
-        Piece movedPiece = pieceByPosition(source).move(source, target, this);
-        pieces.remove(source);
-        pieces.put(target, movedPiece);
+    public MoveResult movePiece(Position source, Position target, Color color) {
+        MoveResult moveResult = checkMove(source, target, color);
+        if (moveResult.isSuccess()) {
+            move(source, target, board.get(source));
+        }
+        return moveResult;
     }
 
-    private void validateFinishedGame() {
+    private MoveResult checkMove(Position source, Position target, Color color) {
         if (isFinished()) {
-            throw new IllegalStateException("게임이 종료되어 기물을 움직일 수 없습니다.");
+            return MoveResult.FINISHED_GAME;
+        }
+        Piece piece = board.get(source);
+        if (piece == null) {
+            return MoveResult.EMPTY_SOURCE;
+        }
+        if (!piece.isSameColor(color)) {
+            return MoveResult.OPPONENT_PIECE;
         }
+        Piece targetPiece = board.get(target);
+        if (targetPiece != null && piece.isSameTeamPiece(targetPiece)) {
+            return MoveResult.SAME_COLOR_TARGET;
+        }
+        return piece.checkMove(source, target, this);
     }
 
-    private void validateMovableColor(Position source, Color color) {
-        if (!pieceByPosition(source).isSameColor(color)) {
-            throw new IllegalStateException("상대 진영의 기물을 움직일 수 없습니다.");
-        }
+    private void move(Position source, Position target, Piece movedPiece) {
+        remove(source);
+        remove(target);
+        put(target, movedPiece);
     }
 
-    private void validateSameColor(Position source, Position target) {
-        if (pieces.containsKey(target) && pieceByPosition(source).isSameTeamPiece(pieceByPosition(target))) {
-            throw new IllegalStateException("같은 색의 기물 위치로는 이동할 수 없습니다.");
+    private void put(Position position, Piece piece) {
+        board.put(position, piece);
+        materialScore.add(position, piece);
+        hash ^= Zobrist.pieceKey(position, piece);
+    }
+
+    private void remove(Position position) {
+        Piece piece = board.get(position);
+        if (piece == null) {
+            return;
         }
+        board.remove(position);
+        materialScore.remove(position, piece);
+        hash ^= Zobrist.pieceKey(position, piece);
     }
 
     public Position promotionPosition(Color color) {
-        return pieces.entrySet()
-                .stream()
-                .filter(entry -> isPromotionPositionPawn(entry.getKey(), entry.getValue(), color))
-                .map(Entry::getKey)
-                .findAny()
+        return board.findPromotionPosition(color)
                 .orElseThrow(() -> new IllegalStateException("프로모션 프로모션 가능한 기물이 없습니다."));
     }
 
+    public Position promotion(Color color, PieceRule pieceRule) {
+        Position position = promotionPosition(color);
+        remove(position);
+        put(position, PieceConverter.pieceOf(color, pieceRule));
+        return position;
+    }
+
     public boolean isPositionEmpty(Position position) {
-        return !pieces.containsKey(position);
+        return !board.contains(position);
     }
 
-    public Piece pieceByPosition(Position position) {
-        if (!pieces.containsKey(position)) {
-            throw new NoSuchElementException("해당 위치에 존재하는 기물이 없습니다.");
-        }
-        return pieces.get(position);
+    public boolean isEmptyRoute(long route) {
+        return (board.occupancy() & route) == 0;
     }
 
-    public Map<Color, Double> calculateScoreStatus() {
-        Map<Color, Double> result = new EnumMap<>(Color.class);
+    public long occupancy() {
+        return board.occupancy();
+    }
 
-        for (Color color : Color.values()) {
-            result.put(color, calculateColorScore(color));
-        }
-        return result;
+    public long occupancy(Color color) {
+        return board.occupancy(color);
     }
 
-    private double calculateColorScore(Color color) {
-        return calculateColorDefaultScore(color) - PAWN_PENALTY_SCORE * countDuplicatedColumnPawn(color);
+    public long kingOccupancy(Color color) {
+        return board.kingOccupancy(color);
     }
 
-    private double calculateColorDefaultScore(Color color) {
-        return pieces.values()
-                .stream()
-                .filter(piece -> piece.isSameColor(color))
-                .mapToDouble(Piece::score)
-                .sum();
+    public long movableSquares(Position source) {
+        Piece piece = pieceByPosition(source);
+        return piece.movableSquares(source, this) & ~board.occupancy(piece.color());
     }
 
-    private long countDuplicatedColumnPawn(Color color) {
-        return pieces.entrySet()
-                .stream()
-                .filter(entry -> isSameColorPawn(color, entry.getValue()))
-                .filter(entry -> existSameColorPawnInColumn(entry.getKey(), color))
-                .count();
+    Piece applyMove(Position source, Position target) {
+        Piece capturedPiece = board.get(target);
+        move(source, target, board.get(source));
+        return capturedPiece;
     }
 
-    private boolean isSameColorPawn(Color color, Piece piece) {
-        return piece.isSameColor(color) && piece.isPawn();
+    void undoMove(Position source, Position target, Piece capturedPiece) {
+        move(target, source, board.get(target));
+        if (capturedPiece != null) {
+            put(target, capturedPiece);
+        }
     }
 
-    private boolean existSameColorPawnInColumn(Position position, Color color) {
-        return pieces.entrySet()
-                .stream()
-                .filter(entry -> isSameColorPawn(color, entry.getValue()))
-                .anyMatch(entry -> existOtherPawnInColumn(position, entry.getKey()));
+    public Piece pieceByPosition(Position position) {
+        if (!board.contains(position)) {
+            throw new NoSuchElementException("해당 위치에 존재하는 기물이 없습니다.");
+        }
+        return board.get(position);
     }
 
-    private boolean existOtherPawnInColumn(Position position, Position comparePosition) {
-        return !position.equals(comparePosition) && position.equalsColumn(comparePosition);
+    public Map<Color, Double> calculateScoreStatus() {
+        Map<Color, Double> result = new EnumMap<>(Color.class);
+
+        for (Color color : Color.values()) {
+            result.put(color, materialScore.calculate(color));
+        }
+        return result;
     }
 
-    public boolean isFinished() {
-        return countKing() == FINISHED_GAME_KING_COUNT;
+    public long hash() {
+        return hash;
     }
 
-    private long countKing() {
-        return pieces.values()
-                .stream()
-                .filter(Piece::isKing)
-                .count();
+    public long hash(Turn turn) {
+        return hash ^ Zobrist.turnKey(turn);
+    }
+
+    public boolean isFinished() {
+        return board.countKing() == FINISHED_GAME_KING_COUNT;
     }
 
     public Color winner() {
         if (!isFinished()) {
             throw new IllegalStateException("경기가 종료되지 않아 우승자를 계산할 수 없습니다.");
         }
-        return pieces.values()
-                .stream()
-                .filter(Piece::isKing)
-                .map(Piece::color)
-                .findAny()
-                .orElseThrow(() -> new IllegalStateException("킹이 존재하지 않아 우승자를 계산할 수 없습니다."));
+        for (Color color : Color.values()) {
+            if (board.hasKing(color)) {
+                return color;
+            }
+        }
+        throw new IllegalStateException("킹이 존재하지 않아 우승자를 계산할 수 없습니다.");
     }
 
     public boolean isPromotionStatus(Color color) {
-        return pieces.entrySet()
-                .stream()
-                .anyMatch(entry -> isPromotionPositionPawn(entry.getKey(), entry.getValue(), color));
-    }
-
-    private boolean isPromotionPositionPawn(Position position, Piece piece, Color color) {
-        return position.isPromotionPosition(color) && piece.isPawn() && piece.isSameColor(color);
+        return board.findPromotionPosition(color).isPresent();
     }
 
     public Map<Position, Piece> getPieces() {
-        return Map.copyOf(pieces);
+        return board.toMap();
     }
 }
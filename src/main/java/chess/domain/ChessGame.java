@@ -12,6 +12,7 @@ public class ChessGame {
     private final String turn;
     private final String title;
     private final String password;
+    private long version;
 
     public ChessGame(String turn, String title, String password) {
         validateTitleLength(title);
@@ -25,6 +26,11 @@ public class ChessGame {
         this.id = id;
     }
 
+    public ChessGame(long id, String turn, String title, String password, long version) {
+        this(id, turn, title, password);
+        this.version = version;
+    }
+
     private void validateTitleLength(String title) {
         if (title.length() > MAX_TITLE_LENGTH) {
             throw new IllegalArgumentException("체스 게임의 제목은 20자 이하입니다.");
@@ -65,6 +71,10 @@ public class ChessGame {
         return password;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -74,12 +84,12 @@ public class ChessGame {
             return false;
         }
         ChessGame chessGame = (ChessGame) o;
-        return id == chessGame.id && Objects.equals(turn, chessGame.turn) && Objects.equals(title,
-                chessGame.title) && Objects.equals(password, chessGame.password);
+        return id == chessGame.id && version == chessGame.version && Objects.equals(turn, chessGame.turn)
+                && Objects.equals(title, chessGame.title) && Objects.equals(password, chessGame.password);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, turn, title, password);
+        return Objects.hash(id, turn, title, password, version);
     }
 }
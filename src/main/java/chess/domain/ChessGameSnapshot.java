@@ -0,0 +1,48 @@
+package chess.domain;
+
+import chess.domain.board.PackedBoard;
+import chess.domain.piece.Piece;
+import chess.domain.state.Turn;
+import java.util.Map;
+
+public class ChessGameSnapshot {
+
+    private final long chessGameId;
+    private final byte[] board;
+    private final Turn turn;
+    private final long version;
+
+    private ChessGameSnapshot(long chessGameId, byte[] board, Turn turn, long version) {
+        this.chessGameId = chessGameId;
+        this.board = board;
+        this.turn = turn;
+        this.version = version;
+    }
+
+    public static ChessGameSnapshot of(long chessGameId, Map<Position, Piece> pieces, Turn turn, long version) {
+        return new ChessGameSnapshot(chessGameId, PackedBoard.pack(pieces), turn, version);
+    }
+
+    public ChessGameSnapshot newer(ChessGameSnapshot other) {
+        if (other.version > version) {
+            return other;
+        }
+        return this;
+    }
+
+    public long getChessGameId() {
+        return chessGameId;
+    }
+
+    public byte[] getBoard() {
+        return board.clone();
+    }
+
+    public Turn getTurn() {
+        return turn;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,17 @@
+package chess.domain;
+
+import java.util.Arrays;
+
+public enum ChessGameStatus {
+
+    RUNNING,
+    END,
+    ;
+
+    public static ChessGameStatus from(String name) {
+        return Arrays.stream(values())
+                .filter(status -> status.name().equalsIgnoreCase(name))
+                .findAny()
+                .orElseThrow(() -> new IllegalArgumentException("없는 체스 게임 상태입니다."));
+    }
+}
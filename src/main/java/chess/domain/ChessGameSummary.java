@@ -0,0 +1,39 @@
+package chess.domain;
+
+import java.util.Objects;
+
+public class ChessGameSummary {
+
+    private final long id;
+    private final String title;
+
+    public ChessGameSummary(long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ChessGameSummary that = (ChessGameSummary) o;
+        return id == that.id && Objects.equals(title, that.title);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title);
+    }
+}
@@ -32,6 +32,13 @@ public enum Color {
         return turn.reverseTurn();
     }
 
+    public Color opposite() {
+        if (this == WHITE) {
+            return BLACK;
+        }
+        return WHITE;
+    }
+
     public boolean isWhite() {
         return this == WHITE;
     }
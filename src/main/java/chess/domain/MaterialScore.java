@@ -0,0 +1,45 @@
+package chess.domain;
+
+import chess.domain.piece.Piece;
+
+class MaterialScore {
+
+    private static final int COLUMN_COUNT = 8;
+    private static final int DUPLICATED_PAWN_COUNT = 2;
+    private static final double PAWN_PENALTY_SCORE = 0.5;
+
+    private final double[] defaultScores = new double[Color.values().length];
+    private final int[][] columnPawnCounts = new int[Color.values().length][COLUMN_COUNT];
+
+    void add(Position position, Piece piece) {
+        defaultScores[piece.color().ordinal()] += piece.score();
+        if (piece.isPawn()) {
+            columnPawnCounts[piece.color().ordinal()][column(position)]++;
+        }
+    }
+
+    void remove(Position position, Piece piece) {
+        defaultScores[piece.color().ordinal()] -= piece.score();
+        if (piece.isPawn()) {
+            columnPawnCounts[piece.color().ordinal()][column(position)]--;
+        }
+    }
+
+    private int column(Position position) {
+        return position.index() % COLUMN_COUNT;
+    }
+
+    double calculate(Color color) {
+        return defaultScores[color.ordinal()] - PAWN_PENALTY_SCORE * countDuplicatedColumnPawn(color);
+    }
+
+    private int countDuplicatedColumnPawn(Color color) {
+        int count = 0;
+        for (int columnPawnCount : columnPawnCounts[color.ordinal()]) {
+            if (columnPawnCount >= DUPLICATED_PAWN_COUNT) {
+                count += columnPawnCount;
+            }
+        }
+        return count;
+    }
+}
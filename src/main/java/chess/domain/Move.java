@@ -0,0 +1,39 @@
+package chess.domain;
+
+import java.util.Objects;
+
+public class Move {
+
+    private final Position source;
+    private final Position target;
+
+    public Move(Position source, Position target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    public Position source() {
+        return source;
+    }
+
+    public Position target() {
+        return target;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Move move = (Move) o;
+        return source.equals(move.source) && target.equals(move.target);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, target);
+    }
+}
@@ -0,0 +1,88 @@
+package chess.domain;
+
+import chess.domain.piece.Piece;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MoveGenerator {
+
+    private final ChessBoard chessBoard;
+
+    public MoveGenerator(ChessBoard chessBoard) {
+        this.chessBoard = chessBoard;
+    }
+
+    public List<Move> pseudoLegalMoves(Color color) {
+        List<Move> moves = new ArrayList<>();
+        if (chessBoard.isFinished()) {
+            return moves;
+        }
+        long sources = chessBoard.occupancy(color);
+        while (sources != 0) {
+            addMoves(moves, Position.fromIndex(Long.numberOfTrailingZeros(sources)));
+            sources &= sources - 1;
+        }
+        return moves;
+    }
+
+    public List<Move> pseudoLegalMoves(Color color, Position source) {
+        List<Move> moves = new ArrayList<>();
+        if (chessBoard.isFinished() || !isPieceOf(source, color)) {
+            return moves;
+        }
+        addMoves(moves, source);
+        return moves;
+    }
+
+    private boolean isPieceOf(Position source, Color color) {
+        return !chessBoard.isPositionEmpty(source) && chessBoard.pieceByPosition(source).isSameColor(color);
+    }
+
+    private void addMoves(List<Move> moves, Position source) {
+        long targets = chessBoard.movableSquares(source);
+        while (targets != 0) {
+            moves.add(new Move(source, Position.fromIndex(Long.numberOfTrailingZeros(targets))));
+            targets &= targets - 1;
+        }
+    }
+
+    public List<Move> legalMoves(Color color) {
+        return filterLegalMoves(pseudoLegalMoves(color), color);
+    }
+
+    public List<Move> legalMoves(Color color, Position source) {
+        return filterLegalMoves(pseudoLegalMoves(color, source), color);
+    }
+
+    private List<Move> filterLegalMoves(List<Move> moves, Color color) {
+        List<Move> legalMoves = new ArrayList<>();
+        for (Move move : moves) {
+            if (isLegal(move, color)) {
+                legalMoves.add(move);
+            }
+        }
+        return legalMoves;
+    }
+
+    private boolean isLegal(Move move, Color color) {
+        Piece capturedPiece = chessBoard.applyMove(move.source(), move.target());
+        try {
+            return chessBoard.kingOccupancy(color.opposite()) == 0 || !isKingAttacked(color);
+        } finally {
+            chessBoard.undoMove(move.source(), move.target(), capturedPiece);
+        }
+    }
+
+    public boolean isKingAttacked(Color color) {
+        long kings = chessBoard.kingOccupancy(color);
+        long attackers = chessBoard.occupancy(color.opposite());
+        while (attackers != 0) {
+            Position attacker = Position.fromIndex(Long.numberOfTrailingZeros(attackers));
+            if ((chessBoard.movableSquares(attacker) & kings) != 0) {
+                return true;
+            }
+            attackers &= attackers - 1;
+        }
+        return false;
+    }
+}
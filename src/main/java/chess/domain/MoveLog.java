@@ -0,0 +1,117 @@
+package chess.domain;
+
+import chess.domain.state.Turn;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public final class MoveLog {
+
+    private static final int PLY_SIZE = Integer.BYTES;
+    private static final int RECORD_SIZE = PLY_SIZE + 4;
+    private static final int MOVE = 0;
+    private static final int PROMOTION = 1;
+    private static final int END = 2;
+    private static final int KIND_SHIFT = 2;
+    private static final int TURN_MASK = 0x03;
+    private static final int NONE = 0;
+
+    private MoveLog() {
+        throw new AssertionError();
+    }
+
+    public static byte[] compress(List<MoveRecord> moveRecords) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream output = new DeflaterOutputStream(compressed)) {
+            for (MoveRecord moveRecord : moveRecords) {
+                output.write(encode(moveRecord));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static byte[] encode(MoveRecord moveRecord) {
+        byte[] record = new byte[RECORD_SIZE];
+        ByteBuffer.wrap(record).putInt(Math.toIntExact(moveRecord.ply()));
+        record[PLY_SIZE] = (byte) (kindOf(moveRecord) << KIND_SHIFT | moveRecord.turn().ordinal());
+        if (moveRecord.isEnd()) {
+            return record;
+        }
+        record[PLY_SIZE + 1] = (byte) moveRecord.source().index();
+        if (moveRecord.isPromotion()) {
+            record[PLY_SIZE + 2] = (byte) moveRecord.promotionPiece().ordinal();
+            return record;
+        }
+        record[PLY_SIZE + 2] = (byte) moveRecord.target().index();
+        record[PLY_SIZE + 3] = (byte) toCapturedCode(moveRecord.capturedPiece());
+        return record;
+    }
+
+    private static int kindOf(MoveRecord moveRecord) {
+        if (moveRecord.isEnd()) {
+            return END;
+        }
+        if (moveRecord.isPromotion()) {
+            return PROMOTION;
+        }
+        return MOVE;
+    }
+
+    private static int toCapturedCode(String capturedPiece) {
+        if (capturedPiece == null) {
+            return NONE;
+        }
+        return PieceConverter.from(capturedPiece).ordinal() + 1;
+    }
+
+    public static List<MoveRecord> decompress(byte[] compressed) {
+        byte[] records = inflate(compressed);
+        if (records.length % RECORD_SIZE != 0) {
+            throw new IllegalArgumentException("기보 로그가 올바르지 않습니다.");
+        }
+        List<MoveRecord> moveRecords = new ArrayList<>();
+        for (int offset = 0; offset < records.length; offset += RECORD_SIZE) {
+            moveRecords.add(decode(records, offset));
+        }
+        return moveRecords;
+    }
+
+    private static byte[] inflate(byte[] compressed) {
+        try (InflaterInputStream input = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("기보 로그가 올바르지 않습니다.");
+        }
+    }
+
+    private static MoveRecord decode(byte[] records, int offset) {
+        long ply = ByteBuffer.wrap(records, offset, PLY_SIZE).getInt();
+        int header = offset + PLY_SIZE;
+        int kind = records[header] >> KIND_SHIFT;
+        Turn turn = Turn.values()[records[header] & TURN_MASK];
+        if (kind == END) {
+            return MoveRecord.end(ply);
+        }
+        Position source = Position.fromIndex(records[header + 1]);
+        if (kind == PROMOTION) {
+            return MoveRecord.promotion(ply, source, PromotionPiece.values()[records[header + 2]], turn);
+        }
+        return new MoveRecord(ply, source, Position.fromIndex(records[header + 2]), null,
+                toCapturedPiece(records[header + 3]), turn);
+    }
+
+    private static String toCapturedPiece(int capturedCode) {
+        if (capturedCode == NONE) {
+            return null;
+        }
+        return PieceConverter.values()[capturedCode - 1].pieceName();
+    }
+}
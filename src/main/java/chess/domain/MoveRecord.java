@@ -0,0 +1,106 @@
+package chess.domain;
+
+import chess.domain.piece.Piece;
+import chess.domain.state.Turn;
+import java.util.Objects;
+
+public class MoveRecord {
+
+    private final long ply;
+    private final Position source;
+    private final Position target;
+    private final PromotionPiece promotionPiece;
+    private final String capturedPiece;
+    private final Turn turn;
+
+    public MoveRecord(long ply, Position source, Position target, PromotionPiece promotionPiece,
+                      String capturedPiece, Turn turn) {
+        this.ply = ply;
+        this.source = source;
+        this.target = target;
+        this.promotionPiece = promotionPiece;
+        this.capturedPiece = capturedPiece;
+        this.turn = turn;
+    }
+
+    public static MoveRecord move(long ply, Position source, Position target, Piece capturedPiece, Turn turn) {
+        if (capturedPiece == null) {
+            return new MoveRecord(ply, source, target, null, null, turn);
+        }
+        return new MoveRecord(ply, source, target, null, capturedPiece.name(), turn);
+    }
+
+    public static MoveRecord promotion(long ply, Position position, PromotionPiece promotionPiece, Turn turn) {
+        return new MoveRecord(ply, position, position, promotionPiece, null, turn);
+    }
+
+    public static MoveRecord end(long ply) {
+        return new MoveRecord(ply, null, null, null, null, Turn.END);
+    }
+
+    public void replay(ChessBoard chessBoard) {
+        if (isEnd()) {
+            return;
+        }
+        Color color = chessBoard.pieceByPosition(source).color();
+        if (isPromotion()) {
+            chessBoard.promotion(color, promotionPiece.pieceRule());
+            return;
+        }
+        MoveResult moveResult = chessBoard.movePiece(source, target, color);
+        if (!moveResult.isSuccess()) {
+            throw new IllegalStateException(moveResult.getMessage());
+        }
+    }
+
+    public boolean isPromotion() {
+        return promotionPiece != null;
+    }
+
+    public boolean isEnd() {
+        return source == null;
+    }
+
+    public long ply() {
+        return ply;
+    }
+
+    public Position source() {
+        return source;
+    }
+
+    public Position target() {
+        return target;
+    }
+
+    public PromotionPiece promotionPiece() {
+        return promotionPiece;
+    }
+
+    public String capturedPiece() {
+        return capturedPiece;
+    }
+
+    public Turn turn() {
+        return turn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MoveRecord that = (MoveRecord) o;
+        return ply == that.ply && Objects.equals(source, that.source) && Objects.equals(target, that.target)
+                && promotionPiece == that.promotionPiece && Objects.equals(capturedPiece, that.capturedPiece)
+                && turn == that.turn;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ply, source, target, promotionPiece, capturedPiece, turn);
+    }
+}
@@ -0,0 +1,34 @@
+package chess.domain;
+
+public enum MoveResult {
+
+    SUCCESS(null),
+    FINISHED_GAME("게임이 종료되어 기물을 움직일 수 없습니다."),
+    ENDED_GAME("종료된 게임은 기물을 움직일 수 없습니다."),
+    EMPTY_SOURCE("해당 위치에 존재하는 기물이 없습니다."),
+    OPPONENT_PIECE("상대 진영의 기물을 움직일 수 없습니다."),
+    SAME_COLOR_TARGET("같은 색의 기물 위치로는 이동할 수 없습니다."),
+    UNREACHABLE_TARGET("움직일 수 없는 곳입니다."),
+    ;
+
+    private final String message;
+
+    MoveResult(String message) {
+        this.message = message;
+    }
+
+    public static MoveResult movableIf(boolean movable) {
+        if (movable) {
+            return SUCCESS;
+        }
+        return UNREACHABLE_TARGET;
+    }
+
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,32 @@
+package chess.domain;
+
+import chess.domain.piece.Piece;
+import java.util.List;
+
+public class Perft {
+
+    private final ChessBoard chessBoard;
+    private final MoveGenerator moveGenerator;
+
+    public Perft(ChessBoard chessBoard) {
+        this.chessBoard = chessBoard;
+        this.moveGenerator = new MoveGenerator(chessBoard);
+    }
+
+    public long count(Color color, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        List<Move> moves = moveGenerator.legalMoves(color);
+        if (depth == 1) {
+            return moves.size();
+        }
+        long nodes = 0;
+        for (Move move : moves) {
+            Piece capturedPiece = chessBoard.applyMove(move.source(), move.target());
+            nodes += count(color.opposite(), depth - 1);
+            chessBoard.undoMove(move.source(), move.target(), capturedPiece);
+        }
+        return nodes;
+    }
+}
@@ -1,6 +1,7 @@
 package chess.domain;
 
 import chess.domain.piece.Piece;
+import chess.domain.piece.PieceRule;
 import chess.domain.piece.multiple.Bishop;
 import chess.domain.piece.multiple.Queen;
 import chess.domain.piece.multiple.Rook;
@@ -8,31 +9,76 @@ import chess.domain.piece.pawn.Pawn;
 import chess.domain.piece.single.King;
 import chess.domain.piece.single.Knight;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum PieceConverter {
 
-    KING("king", color -> new Piece(color, new King())),
-    QUEEN("queen", color -> new Piece(color, new Queen())),
-    BISHOP("bishop", color -> new Piece(color, new Bishop())),
-    ROOK("rook", color -> new Piece(color, new Rook())),
-    KNIGHT("knight", color -> new Piece(color, new Knight())),
-    PAWN("pawn", color -> new Piece(color, new Pawn(color))),
+    KING("king", new King()),
+    QUEEN("queen", new Queen()),
+    BISHOP("bishop", new Bishop()),
+    ROOK("rook", new Rook()),
+    KNIGHT("knight", new Knight()),
+    PAWN("pawn", new Pawn(Color.WHITE), new Pawn(Color.BLACK)),
     ;
 
+    private static final Map<String, PieceConverter> BY_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(pieceConverter -> pieceConverter.pieceName, Function.identity()));
+
     private final String pieceName;
-    private final Function<Color, Piece> pieceCreator;
+    private final PieceRule whitePieceRule;
+    private final PieceRule blackPieceRule;
+    private final Piece whitePiece;
+    private final Piece blackPiece;
+
+    PieceConverter(String pieceName, PieceRule pieceRule) {
+        this(pieceName, pieceRule, pieceRule);
+    }
 
-    PieceConverter(String pieceName, Function<Color, Piece> pieceCreator) {
+    PieceConverter(String pieceName, PieceRule whitePieceRule, PieceRule blackPieceRule) {
         this.pieceName = pieceName;
-        this.pieceCreator = pieceCreator;
+        this.whitePieceRule = whitePieceRule;
+        this.blackPieceRule = blackPieceRule;
+        this.whitePiece = Piece.createWhitePiece(whitePieceRule);
+        this.blackPiece = Piece.createBlackPiece(blackPieceRule);
     }
 
     public static Piece parseToPiece(String name, Color color) {
-        return Arrays.stream(values())
-                .filter(pieceConvertor -> pieceConvertor.pieceName.equals(name))
-                .findAny()
-                .map(pieceConvertor -> pieceConvertor.pieceCreator.apply(color))
-                .orElseThrow(() -> new IllegalArgumentException("없는 기물 정보입니다."));
+        return from(name).pieceOf(color);
+    }
+
+    public static Piece pieceOf(Color color, PieceRule pieceRule) {
+        return from(pieceRule.name()).pieceOf(color);
+    }
+
+    public static PieceConverter typeOf(Piece piece) {
+        return from(piece.name());
+    }
+
+    public Piece pieceOf(Color color) {
+        if (color == Color.WHITE) {
+            return whitePiece;
+        }
+        return blackPiece;
+    }
+
+    public PieceRule pieceRule(Color color) {
+        if (color == Color.WHITE) {
+            return whitePieceRule;
+        }
+        return blackPieceRule;
+    }
+
+    String pieceName() {
+        return pieceName;
+    }
+
+    static PieceConverter from(String name) {
+        PieceConverter pieceConverter = BY_NAME.get(name);
+        if (pieceConverter == null) {
+            throw new IllegalArgumentException("없는 기물 정보입니다.");
+        }
+        return pieceConverter;
     }
 }
@@ -1,8 +1,6 @@
 package chess.domain;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 public class Position {
 
@@ -16,22 +14,25 @@ public class Position {
 
     private static final int POSITION_FORMAT_LENGTH = 2;
 
-    private static final List<Position> CACHE = createCache();
+    private static final int BOARD_SIZE = MAX_COLUMN - MIN_COLUMN + 1;
+    private static final Position[] CACHE = createCache();
 
     private final char column;
     private final char row;
+    private final int index;
 
-    private static List<Position> createCache() {
-        List<Position> cache = new ArrayList<>();
-        for (char column = MIN_COLUMN; column <= MAX_COLUMN; column++) {
-            addPositionByColumn(cache, column);
+    private static Position[] createCache() {
+        Position[] cache = new Position[BOARD_SIZE * BOARD_SIZE];
+        for (char row = MIN_ROW; row <= MAX_ROW; row++) {
+            addPositionByRow(cache, row);
         }
         return cache;
     }
 
-    private static void addPositionByColumn(List<Position> cache, char column) {
-        for (char row = MIN_ROW; row <= MAX_ROW; row++) {
-            cache.add(new Position(column, row));
+    private static void addPositionByRow(Position[] cache, char row) {
+        for (char column = MIN_COLUMN; column <= MAX_COLUMN; column++) {
+            Position position = new Position(column, row);
+            cache[position.index] = position;
         }
     }
 
@@ -40,6 +41,11 @@ public class Position {
         validateRowInRange(row);
         this.column = column;
         this.row = row;
+        this.index = toIndex(column, row);
+    }
+
+    private static int toIndex(char column, char row) {
+        return (row - MIN_ROW) * BOARD_SIZE + (column - MIN_COLUMN);
     }
 
     private void validateColumnInRange(char column) {
@@ -49,7 +55,7 @@ public class Position {
         }
     }
 
-    private boolean isColumnInRange(char column) {
+    private static boolean isColumnInRange(char column) {
         return MIN_COLUMN <= column && column <= MAX_COLUMN;
     }
 
@@ -60,15 +66,26 @@ public class Position {
         }
     }
 
-    private boolean isRowInRange(char row) {
+    private static boolean isRowInRange(char row) {
         return MIN_ROW <= row && row <= MAX_ROW;
     }
 
     public static Position of(char column, char row) {
-        return CACHE.stream()
-                .filter(position -> position.column == column && position.row == row)
-                .findAny()
-                .orElseThrow(() -> new IllegalArgumentException("Position범위에 맞지 않는 입력값입니다."));
+        if (!isColumnInRange(column) || !isRowInRange(row)) {
+            throw new IllegalArgumentException("Position범위에 맞지 않는 입력값입니다.");
+        }
+        return CACHE[toIndex(column, row)];
+    }
+
+    public static Position fromIndex(int index) {
+        if (index < 0 || index >= CACHE.length) {
+            throw new IllegalArgumentException("Position범위에 맞지 않는 입력값입니다.");
+        }
+        return CACHE[index];
+    }
+
+    public static List<Position> values() {
+        return List.of(CACHE);
     }
 
     public static Position from(String position) {
@@ -112,6 +129,10 @@ public class Position {
         return row == BLACK_PAWN_INITIAL_ROW;
     }
 
+    public int index() {
+        return index;
+    }
+
     public String column() {
         return String.valueOf(column);
     }
@@ -129,11 +150,11 @@ public class Position {
             return false;
         }
         Position position = (Position) o;
-        return row == position.row && column == position.column;
+        return index == position.index;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(row, column);
+        return index;
     }
 }
@@ -1,26 +1,22 @@
 package chess.domain;
 
 import chess.domain.piece.PieceRule;
-import chess.domain.piece.multiple.Bishop;
-import chess.domain.piece.multiple.Queen;
-import chess.domain.piece.multiple.Rook;
-import chess.domain.piece.single.Knight;
 import java.util.Arrays;
 
 public enum PromotionPiece {
 
-    QUEEN("Q", new Queen()),
-    ROOK("R", new Rook()),
-    BISHOP("B", new Bishop()),
-    KNIGHT("N", new Knight()),
+    QUEEN("Q", PieceConverter.QUEEN),
+    ROOK("R", PieceConverter.ROOK),
+    BISHOP("B", PieceConverter.BISHOP),
+    KNIGHT("N", PieceConverter.KNIGHT),
     ;
 
     private final String value;
     private final PieceRule pieceRule;
 
-    PromotionPiece(String value, PieceRule pieceRule) {
+    PromotionPiece(String value, PieceConverter pieceConverter) {
         this.value = value;
-        this.pieceRule = pieceRule;
+        this.pieceRule = pieceConverter.pieceRule(Color.WHITE);
     }
 
     public static PromotionPiece createPromotionPiece(String input) {
@@ -0,0 +1,41 @@
+package chess.domain;
+
+import chess.domain.piece.Piece;
+import chess.domain.state.Turn;
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+    private static final int SQUARE_COUNT = 64;
+    private static final int PIECE_KIND_COUNT = Color.values().length * PieceConverter.values().length;
+
+    private static final long[][] PIECE_SQUARE_KEYS = new long[PIECE_KIND_COUNT][SQUARE_COUNT];
+    private static final long[] TURN_KEYS = new long[Turn.values().length];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] squareKeys : PIECE_SQUARE_KEYS) {
+            for (int square = 0; square < SQUARE_COUNT; square++) {
+                squareKeys[square] = random.nextLong();
+            }
+        }
+        for (int turn = 0; turn < TURN_KEYS.length; turn++) {
+            TURN_KEYS[turn] = random.nextLong();
+        }
+    }
+
+    private Zobrist() {
+        throw new AssertionError();
+    }
+
+    public static long pieceKey(Position position, Piece piece) {
+        int kind = piece.color().ordinal() * PieceConverter.values().length
+                + PieceConverter.typeOf(piece).ordinal();
+        return PIECE_SQUARE_KEYS[kind][position.index()];
+    }
+
+    public static long turnKey(Turn turn) {
+        return TURN_KEYS[turn.ordinal()];
+    }
+}
@@ -0,0 +1,135 @@
+package chess.domain.board;
+
+import chess.domain.Color;
+import chess.domain.PieceConverter;
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+public class BitBoard implements Board {
+
+    private static final int BOARD_SIZE = 8;
+    private static final int SQUARE_COUNT = BOARD_SIZE * BOARD_SIZE;
+    private static final long RANK_1 = 0x00000000000000FFL;
+    private static final long RANK_8 = 0xFF00000000000000L;
+
+    private static final int KING = PieceConverter.KING.ordinal();
+    private static final int PAWN = PieceConverter.PAWN.ordinal();
+
+    private final Piece[] squares = new Piece[SQUARE_COUNT];
+    private final long[] colorBoards = new long[Color.values().length];
+    private final long[] typeBoards = new long[PieceConverter.values().length];
+
+    public static BitBoard from(Map<Position, Piece> pieces) {
+        BitBoard bitBoard = new BitBoard();
+        for (Entry<Position, Piece> entry : pieces.entrySet()) {
+            bitBoard.put(entry.getKey(), entry.getValue());
+        }
+        return bitBoard;
+    }
+
+    @Override
+    public boolean contains(Position position) {
+        return squares[position.index()] != null;
+    }
+
+    @Override
+    public long occupancy() {
+        long occupancy = 0L;
+        for (long colorBoard : colorBoards) {
+            occupancy |= colorBoard;
+        }
+        return occupancy;
+    }
+
+    @Override
+    public long occupancy(Color color) {
+        return colorBoards[color.ordinal()];
+    }
+
+    @Override
+    public long kingOccupancy(Color color) {
+        return pieces(color, KING);
+    }
+
+    @Override
+    public Piece get(Position position) {
+        return squares[position.index()];
+    }
+
+    @Override
+    public void put(Position position, Piece piece) {
+        int square = position.index();
+        remove(square);
+        long bit = 1L << square;
+        squares[square] = piece;
+        colorBoards[piece.color().ordinal()] |= bit;
+        typeBoards[PieceConverter.typeOf(piece).ordinal()] |= bit;
+    }
+
+    @Override
+    public void move(Position source, Position target, Piece movedPiece) {
+        remove(source.index());
+        put(target, movedPiece);
+    }
+
+    @Override
+    public void remove(Position position) {
+        remove(position.index());
+    }
+
+    private void remove(int square) {
+        Piece piece = squares[square];
+        if (piece == null) {
+            return;
+        }
+        long mask = ~(1L << square);
+        squares[square] = null;
+        colorBoards[piece.color().ordinal()] &= mask;
+        typeBoards[PieceConverter.typeOf(piece).ordinal()] &= mask;
+    }
+
+    @Override
+    public int countKing() {
+        return Long.bitCount(typeBoards[KING]);
+    }
+
+    @Override
+    public boolean hasKing(Color color) {
+        return pieces(color, KING) != 0;
+    }
+
+    @Override
+    public Optional<Position> findPromotionPosition(Color color) {
+        long promotionPawns = pieces(color, PAWN) & promotionRank(color);
+        if (promotionPawns == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Position.fromIndex(Long.numberOfTrailingZeros(promotionPawns)));
+    }
+
+    private long promotionRank(Color color) {
+        if (color.isWhite()) {
+            return RANK_8;
+        }
+        return RANK_1;
+    }
+
+    @Override
+    public Map<Position, Piece> toMap() {
+        Map<Position, Piece> pieces = new HashMap<>();
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            if (squares[square] != null) {
+                pieces.put(Position.fromIndex(square), squares[square]);
+            }
+        }
+        return Map.copyOf(pieces);
+    }
+
+    private long pieces(Color color, int type) {
+        return colorBoards[color.ordinal()] & typeBoards[type];
+    }
+}
@@ -0,0 +1,34 @@
+package chess.domain.board;
+
+import chess.domain.Color;
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import java.util.Map;
+import java.util.Optional;
+
+public interface Board {
+
+    boolean contains(Position position);
+
+    long occupancy();
+
+    long occupancy(Color color);
+
+    long kingOccupancy(Color color);
+
+    Piece get(Position position);
+
+    void put(Position position, Piece piece);
+
+    void move(Position source, Position target, Piece movedPiece);
+
+    void remove(Position position);
+
+    int countKing();
+
+    boolean hasKing(Color color);
+
+    Optional<Position> findPromotionPosition(Color color);
+
+    Map<Position, Piece> toMap();
+}
@@ -0,0 +1,107 @@
+package chess.domain.board;
+
+import chess.domain.Color;
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+public class MapBoard implements Board {
+
+    private final Map<Position, Piece> pieces;
+
+    public MapBoard(Map<Position, Piece> pieces) {
+        this.pieces = new HashMap<>(pieces);
+    }
+
+    @Override
+    public boolean contains(Position position) {
+        return pieces.containsKey(position);
+    }
+
+    @Override
+    public long occupancy() {
+        long occupancy = 0L;
+        for (Position position : pieces.keySet()) {
+            occupancy |= 1L << position.index();
+        }
+        return occupancy;
+    }
+
+    @Override
+    public long occupancy(Color color) {
+        return occupancy(piece -> piece.isSameColor(color));
+    }
+
+    @Override
+    public long kingOccupancy(Color color) {
+        return occupancy(piece -> piece.isSameColor(color) && piece.isKing());
+    }
+
+    private long occupancy(Predicate<Piece> condition) {
+        long occupancy = 0L;
+        for (Entry<Position, Piece> entry : pieces.entrySet()) {
+            if (condition.test(entry.getValue())) {
+                occupancy |= 1L << entry.getKey().index();
+            }
+        }
+        return occupancy;
+    }
+
+    @Override
+    public Piece get(Position position) {
+        return pieces.get(position);
+    }
+
+    @Override
+    public void put(Position position, Piece piece) {
+        pieces.put(position, piece);
+    }
+
+    @Override
+    public void move(Position source, Position target, Piece movedPiece) {
+        pieces.remove(source);
+        pieces.put(target, movedPiece);
+    }
+
+    @Override
+    public void remove(Position position) {
+        pieces.remove(position);
+    }
+
+    @Override
+    public int countKing() {
+        return (int) pieces.values()
+                .stream()
+                .filter(Piece::isKing)
+                .count();
+    }
+
+    @Override
+    public boolean hasKing(Color color) {
+        return pieces.values()
+                .stream()
+                .anyMatch(piece -> piece.isKing() && piece.isSameColor(color));
+    }
+
+    @Override
+    public Optional<Position> findPromotionPosition(Color color) {
+        return pieces.entrySet()
+                .stream()
+                .filter(entry -> isPromotionPositionPawn(entry.getKey(), entry.getValue(), color))
+                .map(Entry::getKey)
+                .findAny();
+    }
+
+    private boolean isPromotionPositionPawn(Position position, Piece piece, Color color) {
+        return position.isPromotionPosition(color) && piece.isPawn() && piece.isSameColor(color);
+    }
+
+    @Override
+    public Map<Position, Piece> toMap() {
+        return Map.copyOf(pieces);
+    }
+}
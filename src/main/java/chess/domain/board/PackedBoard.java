@@ -0,0 +1,73 @@
+package chess.domain.board;
+
+import chess.domain.Color;
+import chess.domain.PieceConverter;
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import java.util.Map;
+import java.util.Map.Entry;
+
+public final class PackedBoard {
+
+    private static final int SQUARE_COUNT = 64;
+    private static final int SQUARES_PER_BYTE = 2;
+    private static final int PACKED_SIZE = SQUARE_COUNT / SQUARES_PER_BYTE;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0x0F;
+    private static final int TYPE_MASK = 0x07;
+    private static final int BLACK_FLAG = 0x08;
+    private static final int EMPTY = 0;
+
+    private PackedBoard() {
+        throw new AssertionError();
+    }
+
+    public static byte[] pack(Map<Position, Piece> pieces) {
+        byte[] packed = new byte[PACKED_SIZE];
+        for (Entry<Position, Piece> entry : pieces.entrySet()) {
+            int square = entry.getKey().index();
+            int shift = square % SQUARES_PER_BYTE * NIBBLE_BITS;
+            packed[square / SQUARES_PER_BYTE] |= (byte) (toNibble(entry.getValue()) << shift);
+        }
+        return packed;
+    }
+
+    private static int toNibble(Piece piece) {
+        int nibble = PieceConverter.typeOf(piece).ordinal() + 1;
+        if (piece.isSameColor(Color.BLACK)) {
+            return nibble | BLACK_FLAG;
+        }
+        return nibble;
+    }
+
+    public static BitBoard unpack(byte[] packed) {
+        validatePackedSize(packed);
+        BitBoard bitBoard = new BitBoard();
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            int shift = square % SQUARES_PER_BYTE * NIBBLE_BITS;
+            int nibble = packed[square / SQUARES_PER_BYTE] >> shift & NIBBLE_MASK;
+            if (nibble != EMPTY) {
+                bitBoard.put(Position.fromIndex(square), toPiece(nibble));
+            }
+        }
+        return bitBoard;
+    }
+
+    private static void validatePackedSize(byte[] packed) {
+        if (packed.length != PACKED_SIZE) {
+            throw new IllegalArgumentException("체스판 스냅샷의 크기가 올바르지 않습니다.");
+        }
+    }
+
+    private static Piece toPiece(int nibble) {
+        int type = (nibble & TYPE_MASK) - 1;
+        if (type >= PieceConverter.values().length) {
+            throw new IllegalArgumentException("없는 기물 정보입니다.");
+        }
+        Color color = Color.WHITE;
+        if ((nibble & BLACK_FLAG) != 0) {
+            color = Color.BLACK;
+        }
+        return PieceConverter.values()[type].pieceOf(color);
+    }
+}
@@ -28,12 +28,48 @@ public enum Direction {
     DOWN_LEFT_LEFT(-2, -1),
     ;
 
+    private static final int BOARD_SIZE = 8;
+    private static final int SQUARE_COUNT = BOARD_SIZE * BOARD_SIZE;
+
     private final int columnAmount;
     private final int rowAmount;
+    private final long[] rays;
+    private final long[] steps;
 
     Direction(int columnAmount, int rowAmount) {
         this.columnAmount = columnAmount;
         this.rowAmount = rowAmount;
+        this.rays = new long[SQUARE_COUNT];
+        this.steps = new long[SQUARE_COUNT];
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            rays[square] = calculateRay(square, columnAmount, rowAmount);
+            steps[square] = calculateStep(square, columnAmount, rowAmount);
+        }
+    }
+
+    private static long calculateRay(int square, int columnAmount, int rowAmount) {
+        long ray = 0L;
+        int column = square % BOARD_SIZE + columnAmount;
+        int row = square / BOARD_SIZE + rowAmount;
+        while (isInBoard(column) && isInBoard(row)) {
+            ray |= 1L << (row * BOARD_SIZE + column);
+            column += columnAmount;
+            row += rowAmount;
+        }
+        return ray;
+    }
+
+    private static long calculateStep(int square, int columnAmount, int rowAmount) {
+        int column = square % BOARD_SIZE + columnAmount;
+        int row = square / BOARD_SIZE + rowAmount;
+        if (isInBoard(column) && isInBoard(row)) {
+            return 1L << (row * BOARD_SIZE + column);
+        }
+        return 0L;
+    }
+
+    private static boolean isInBoard(int value) {
+        return 0 <= value && value < BOARD_SIZE;
     }
 
     public Position move(Position position) {
@@ -41,32 +77,72 @@ public enum Direction {
     }
 
     public List<Position> route(Position position, Position targetPosition) {
-        if (isNotMovable(position, targetPosition)) {
+        if (!isOnRay(position, targetPosition)) {
             return Collections.emptyList();
         }
-        return calculateRoute(position, targetPosition, new ArrayList<>());
+        List<Position> route = new ArrayList<>();
+        Position movePosition = position;
+        while (!movePosition.equals(targetPosition)) {
+            movePosition = move(movePosition);
+            route.add(movePosition);
+        }
+        return route;
+    }
+
+    public boolean isOnRay(Position position, Position targetPosition) {
+        return (rays[position.index()] & bit(targetPosition)) != 0;
     }
 
-    private boolean isNotMovable(Position position, Position wantPosition) {
-        return position.equals(wantPosition) || !isMovableByMultipleMovable(position, wantPosition);
+    public boolean isOneStep(Position position, Position targetPosition) {
+        return steps[position.index()] == bit(targetPosition);
     }
 
-    private boolean isMovableByMultipleMovable(Position position, Position wantPosition) {
-        if (position.equals(wantPosition)) {
-            return true;
+    public long between(Position position, Position targetPosition) {
+        if (!isOnRay(position, targetPosition)) {
+            return 0L;
         }
-        if (position.isMovable(columnAmount, rowAmount)) {
-            return isMovableByMultipleMovable(move(position), wantPosition);
+        return rays[position.index()] & ~(rays[targetPosition.index()] | bit(targetPosition));
+    }
+
+    public long attacks(Position position, long occupancy) {
+        long ray = rays[position.index()];
+        long blockers = ray & occupancy;
+        if (blockers == 0) {
+            return ray;
         }
-        return false;
+        return ray & ~rays[nearestSquare(blockers)];
     }
 
-    private List<Position> calculateRoute(Position position, Position targetPosition, List<Position> route) {
-        if (position.equals(targetPosition)) {
-            return route;
+    private int nearestSquare(long squares) {
+        if (isIncreasing()) {
+            return Long.numberOfTrailingZeros(squares);
         }
-        Position movePosition = move(position);
-        route.add(movePosition);
-        return calculateRoute(movePosition, targetPosition, route);
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(squares);
+    }
+
+    private boolean isIncreasing() {
+        return rowAmount > 0 || (rowAmount == 0 && columnAmount > 0);
+    }
+
+    public long ray(Position position) {
+        return rays[position.index()];
+    }
+
+    public long step(Position position) {
+        return steps[position.index()];
+    }
+
+    public static long[] createStepTable(List<Direction> directions) {
+        long[] stepTable = new long[SQUARE_COUNT];
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            for (Direction direction : directions) {
+                stepTable[square] |= direction.steps[square];
+            }
+        }
+        return stepTable;
+    }
+
+    private static long bit(Position position) {
+        return 1L << position.index();
     }
 }
@@ -5,28 +5,42 @@ import static chess.domain.Color.WHITE;
 
 import chess.domain.ChessBoard;
 import chess.domain.Color;
+import chess.domain.MoveResult;
 import chess.domain.Position;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class Piece {
 
+    private static final Map<String, Piece> CANONICAL_PIECES = new ConcurrentHashMap<>();
+
     private final Color color;
     private final PieceRule pieceRule;
 
-    public Piece(Color color, PieceRule pieceRule) {
+    private Piece(Color color, PieceRule pieceRule) {
         this.color = color;
         this.pieceRule = pieceRule;
     }
 
     public static Piece createWhitePiece(PieceRule pieceRule) {
-        return new Piece(WHITE, pieceRule);
+        return canonicalPiece(WHITE, pieceRule);
     }
 
     public static Piece createBlackPiece(PieceRule pieceRule) {
-        return new Piece(BLACK, pieceRule);
+        return canonicalPiece(BLACK, pieceRule);
+    }
+
+    private static Piece canonicalPiece(Color color, PieceRule pieceRule) {
+        return CANONICAL_PIECES.computeIfAbsent(color.name() + pieceRule.name(),
+                key -> new Piece(color, pieceRule));
+    }
+
+    public MoveResult checkMove(Position source, Position target, ChessBoard chessBoard) {
+        return pieceRule.checkMove(source, target, chessBoard);
     }
 
-    public Piece move(Position source, Position target, ChessBoard chessBoard) {
-        return new Piece(color, pieceRule.move(source, target, chessBoard));
+    public long movableSquares(Position source, ChessBoard chessBoard) {
+        return pieceRule.movableSquares(source, chessBoard);
     }
 
     public boolean isSameColor(Color color) {
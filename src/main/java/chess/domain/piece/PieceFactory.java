@@ -2,16 +2,14 @@ package chess.domain.piece;
 
 import static chess.domain.Color.BLACK;
 import static chess.domain.Color.WHITE;
-import static chess.domain.piece.Piece.createBlackPiece;
-import static chess.domain.piece.Piece.createWhitePiece;
+import static chess.domain.PieceConverter.BISHOP;
+import static chess.domain.PieceConverter.KING;
+import static chess.domain.PieceConverter.KNIGHT;
+import static chess.domain.PieceConverter.PAWN;
+import static chess.domain.PieceConverter.QUEEN;
+import static chess.domain.PieceConverter.ROOK;
 
 import chess.domain.Position;
-import chess.domain.piece.multiple.Bishop;
-import chess.domain.piece.multiple.Queen;
-import chess.domain.piece.multiple.Rook;
-import chess.domain.piece.pawn.Pawn;
-import chess.domain.piece.single.King;
-import chess.domain.piece.single.Knight;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,34 +28,34 @@ public class PieceFactory {
 
     private static Map<Position, Piece> createNewBlackPieces() {
         Map<Position, Piece> blackPieces = new HashMap<>(Map.of(
-                Position.of('a', '8'), createBlackPiece(new Rook()),
-                Position.of('b', '8'), createBlackPiece(new Knight()),
-                Position.of('c', '8'), createBlackPiece(new Bishop()),
-                Position.of('d', '8'), createBlackPiece(new Queen()),
-                Position.of('e', '8'), createBlackPiece(new King()),
-                Position.of('f', '8'), createBlackPiece(new Bishop()),
-                Position.of('g', '8'), createBlackPiece(new Knight()),
-                Position.of('h', '8'), createBlackPiece(new Rook())
+                Position.of('a', '8'), ROOK.pieceOf(BLACK),
+                Position.of('b', '8'), KNIGHT.pieceOf(BLACK),
+                Position.of('c', '8'), BISHOP.pieceOf(BLACK),
+                Position.of('d', '8'), QUEEN.pieceOf(BLACK),
+                Position.of('e', '8'), KING.pieceOf(BLACK),
+                Position.of('f', '8'), BISHOP.pieceOf(BLACK),
+                Position.of('g', '8'), KNIGHT.pieceOf(BLACK),
+                Position.of('h', '8'), ROOK.pieceOf(BLACK)
         ));
         for (char i = 0; i < 8; i++) {
-            blackPieces.put(Position.of((char) ('a' + i), '7'), createBlackPiece(new Pawn(BLACK)));
+            blackPieces.put(Position.of((char) ('a' + i), '7'), PAWN.pieceOf(BLACK));
         }
         return blackPieces;
     }
 
     private static Map<Position, Piece> createNewWhitePieces() {
         Map<Position, Piece> whitePieces = new HashMap<>(Map.of(
-                Position.of('a', '1'), createWhitePiece(new Rook()),
-                Position.of('b', '1'), createWhitePiece(new Knight()),
-                Position.of('c', '1'), createWhitePiece(new Bishop()),
-                Position.of('d', '1'), createWhitePiece(new Queen()),
-                Position.of('e', '1'), createWhitePiece(new King()),
-                Position.of('f', '1'), createWhitePiece(new Bishop()),
-                Position.of('g', '1'), createWhitePiece(new Knight()),
-                Position.of('h', '1'), createWhitePiece(new Rook())
+                Position.of('a', '1'), ROOK.pieceOf(WHITE),
+                Position.of('b', '1'), KNIGHT.pieceOf(WHITE),
+                Position.of('c', '1'), BISHOP.pieceOf(WHITE),
+                Position.of('d', '1'), QUEEN.pieceOf(WHITE),
+                Position.of('e', '1'), KING.pieceOf(WHITE),
+                Position.of('f', '1'), BISHOP.pieceOf(WHITE),
+                Position.of('g', '1'), KNIGHT.pieceOf(WHITE),
+                Position.of('h', '1'), ROOK.pieceOf(WHITE)
         ));
         for (char i = 0; i < 8; i++) {
-            whitePieces.put(Position.of((char) ('a' + i), '2'), createWhitePiece(new Pawn(WHITE)));
+            whitePieces.put(Position.of((char) ('a' + i), '2'), PAWN.pieceOf(WHITE));
         }
         return whitePieces;
     }
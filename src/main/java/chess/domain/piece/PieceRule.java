@@ -1,11 +1,14 @@
 package chess.domain.piece;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 
 public interface PieceRule {
 
-    PieceRule move(Position source, Position target, ChessBoard chessboard);
+    MoveResult checkMove(Position source, Position target, ChessBoard chessboard);
+
+    long movableSquares(Position source, ChessBoard chessBoard);
 
     double score();
 
@@ -1,10 +1,10 @@
 package chess.domain.piece.multiple;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.direction.Direction;
 import chess.domain.piece.PieceRule;
-import java.util.Collections;
 import java.util.List;
 
 public abstract class MultipleMovePiece implements PieceRule {
@@ -16,32 +16,26 @@ public abstract class MultipleMovePiece implements PieceRule {
     }
 
     @Override
-    public final PieceRule move(Position source, Position target, ChessBoard chessBoard) {
-        if (isMovable(source, target, chessBoard)) {
-            return this;
-        }
-        throw new IllegalStateException("움직일 수 없는 곳입니다.");
+    public final MoveResult checkMove(Position source, Position target, ChessBoard chessBoard) {
+        return MoveResult.movableIf(isMovable(source, target, chessBoard));
     }
 
-    private boolean isMovable(Position source, Position target, ChessBoard chessBoard) {
-        List<Position> route = calculateRoute(source, target);
-        if (route.isEmpty()) {
-            return false;
+    @Override
+    public final long movableSquares(Position source, ChessBoard chessBoard) {
+        long occupancy = chessBoard.occupancy();
+        long squares = 0L;
+        for (Direction direction : moveDirections) {
+            squares |= direction.attacks(source, occupancy);
         }
-        return isEmptyRouteWithoutTargetPosition(target, chessBoard, route);
+        return squares;
     }
 
-    private List<Position> calculateRoute(Position source, Position target) {
-        return moveDirections.stream()
-                .map(direction -> direction.route(source, target))
-                .filter(route -> !route.isEmpty())
-                .findAny()
-                .orElse(Collections.emptyList());
-    }
-
-    private boolean isEmptyRouteWithoutTargetPosition(Position target, ChessBoard chessBoard, List<Position> route) {
-        return route.stream()
-                .filter(position -> !position.equals(target))
-                .allMatch(chessBoard::isPositionEmpty);
+    private boolean isMovable(Position source, Position target, ChessBoard chessBoard) {
+        for (Direction direction : moveDirections) {
+            if (direction.isOnRay(source, target)) {
+                return chessBoard.isEmptyRoute(direction.between(source, target));
+            }
+        }
+        return false;
     }
 }
@@ -2,6 +2,7 @@ package chess.domain.piece.pawn;
 
 import chess.domain.ChessBoard;
 import chess.domain.Color;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.piece.PieceRule;
 
@@ -21,11 +22,13 @@ public final class Pawn implements PieceRule {
     }
 
     @Override
-    public PieceRule move(Position source, Position target, ChessBoard chessboard) {
-        if (pawnMoveRule.isMovable(source, target, chessboard)) {
-            return this;
-        }
-        throw new IllegalStateException("움직일 수 없는 곳입니다.");
+    public MoveResult checkMove(Position source, Position target, ChessBoard chessboard) {
+        return MoveResult.movableIf(pawnMoveRule.isMovable(source, target, chessboard));
+    }
+
+    @Override
+    public long movableSquares(Position source, ChessBoard chessBoard) {
+        return pawnMoveRule.movableSquares(source, chessBoard);
     }
 
     @Override
@@ -23,7 +23,6 @@ public enum PawnMoveRule {
     BLACK_PAWN(BLACK, DOWN, Arrays.asList(DOWN_RIGHT, DOWN_LEFT)),
     ;
 
-    private static final int MOVABLE_TO_ENEMY_COUNT = 1;
     private static final int FIRST_MOVABLE_COUNT = 2;
     private static final int NORMAL_MOVABLE_COUNT = 1;
 
@@ -52,29 +51,53 @@ public enum PawnMoveRule {
         return isMovableToEnemyPosition(source, target);
     }
 
-    private boolean isMovableToPosition(Position source, Position target, ChessBoard chessBoard) {
-        List<Position> route = moveDirection.route(source, target);
-        return existMovablePosition(source, route) && isClearRoute(route, chessBoard);
+    public long movableSquares(Position source, ChessBoard chessBoard) {
+        return forwardSquares(source, chessBoard) | enemySquares(source, chessBoard);
     }
 
-    private boolean existMovablePosition(Position source, List<Position> route) {
-        if (route.isEmpty()) {
-            return false;
+    private long forwardSquares(Position source, ChessBoard chessBoard) {
+        long squares = 0L;
+        Position position = source;
+        for (int count = 0; count < movableCount(source); count++) {
+            long step = moveDirection.step(position);
+            if (step == 0 || !chessBoard.isEmptyRoute(step)) {
+                return squares;
+            }
+            squares |= step;
+            position = Position.fromIndex(Long.numberOfTrailingZeros(step));
         }
-        if (source.isInitialPawnPosition(color)) {
-            return route.size() <= FIRST_MOVABLE_COUNT;
+        return squares;
+    }
+
+    private long enemySquares(Position source, ChessBoard chessBoard) {
+        long squares = 0L;
+        for (Direction direction : moveDirectionToEnemy) {
+            squares |= direction.step(source);
         }
-        return route.size() <= NORMAL_MOVABLE_COUNT;
+        return squares & chessBoard.occupancy();
     }
 
-    private boolean isClearRoute(List<Position> route, ChessBoard chessBoard) {
-        return route.stream()
-                .allMatch(chessBoard::isPositionEmpty);
+    private boolean isMovableToPosition(Position source, Position target, ChessBoard chessBoard) {
+        if (!moveDirection.isOnRay(source, target)) {
+            return false;
+        }
+        long route = moveDirection.between(source, target);
+        return Long.bitCount(route) < movableCount(source) && chessBoard.isEmptyRoute(route);
+    }
+
+    private int movableCount(Position source) {
+        if (source.isInitialPawnPosition(color)) {
+            return FIRST_MOVABLE_COUNT;
+        }
+        return NORMAL_MOVABLE_COUNT;
     }
 
     private boolean isMovableToEnemyPosition(Position source, Position target) {
-        return moveDirectionToEnemy.stream()
-                .map(direction -> direction.route(source, target))
-                .anyMatch(positions -> positions.size() == MOVABLE_TO_ENEMY_COUNT);
+        for (Direction direction : moveDirectionToEnemy) {
+            if (direction.isOneStep(source, target)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
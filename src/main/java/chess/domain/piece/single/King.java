@@ -19,9 +19,10 @@ public final class King extends SingleMovePiece {
     private static final double KING_SCORE = 0;
     private static final List<Direction> MOVE_DIRECTIONS = Arrays.asList(
             UP, DOWN, RIGHT, LEFT, UP_RIGHT, UP_LEFT, DOWN_RIGHT, DOWN_LEFT);
+    private static final long[] MOVE_TABLE = Direction.createStepTable(MOVE_DIRECTIONS);
 
     public King() {
-        super(MOVE_DIRECTIONS);
+        super(MOVE_TABLE);
     }
 
     @Override
@@ -20,9 +20,10 @@ public final class Knight extends SingleMovePiece {
     private static final List<Direction> MOVE_DIRECTIONS = Arrays.asList(
             UP_UP_RIGHT, UP_RIGHT_RIGHT, DOWN_DOWN_RIGHT, DOWN_RIGHT_RIGHT,
             UP_UP_LEFT, UP_LEFT_LEFT, DOWN_DOWN_LEFT, DOWN_LEFT_LEFT);
+    private static final long[] MOVE_TABLE = Direction.createStepTable(MOVE_DIRECTIONS);
 
     public Knight() {
-        super(MOVE_DIRECTIONS);
+        super(MOVE_TABLE);
     }
 
     @Override
@@ -1,20 +1,27 @@
 package chess.domain.state;
 
 import chess.domain.Color;
+import chess.domain.Move;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.PromotionPiece;
 import chess.domain.piece.Piece;
+import java.util.List;
 import java.util.Map;
 
 public interface ChessGameState {
 
     Turn nextTurn();
 
-    void movePiece(Position source, Position target);
+    MoveResult movePiece(Position source, Position target);
 
     Position promotion(PromotionPiece promotionPiece);
 
     Map<Color, Double> currentScore();
 
+    List<Move> movableMoves();
+
+    List<Move> movableMoves(Position source);
+
     Map<Position, Piece> pieces();
 }
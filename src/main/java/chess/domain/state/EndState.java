@@ -2,9 +2,13 @@ package chess.domain.state;
 
 import chess.domain.ChessBoard;
 import chess.domain.Color;
+import chess.domain.Move;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.PromotionPiece;
 import chess.domain.piece.Piece;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 public class EndState implements ChessGameState {
@@ -21,8 +25,8 @@ public class EndState implements ChessGameState {
     }
 
     @Override
-    public void movePiece(Position source, Position target) {
-        throw new IllegalStateException("종료된 게임은 기물을 움직일 수 없습니다.");
+    public MoveResult movePiece(Position source, Position target) {
+        return MoveResult.ENDED_GAME;
     }
 
     @Override
@@ -35,6 +39,16 @@ public class EndState implements ChessGameState {
         throw new IllegalStateException("종료된 게임은 score를 계산할 수 없습니다.");
     }
 
+    @Override
+    public List<Move> movableMoves() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public List<Move> movableMoves(Position source) {
+        return Collections.emptyList();
+    }
+
     @Override
     public Map<Position, Piece> pieces() {
         return chessBoard.getPieces();
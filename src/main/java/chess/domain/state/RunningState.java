@@ -2,9 +2,13 @@ package chess.domain.state;
 
 import chess.domain.ChessBoard;
 import chess.domain.Color;
+import chess.domain.Move;
+import chess.domain.MoveGenerator;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.PromotionPiece;
 import chess.domain.piece.Piece;
+import java.util.List;
 import java.util.Map;
 
 public class RunningState implements ChessGameState {
@@ -29,13 +33,13 @@ public class RunningState implements ChessGameState {
     }
 
     @Override
-    public void movePiece(Position source, Position target) {
-        chessBoard.movePiece(source, target, color);
+    public MoveResult movePiece(Position source, Position target) {
+        return chessBoard.movePiece(source, target, color);
     }
 
     @Override
     public Position promotion(PromotionPiece promotionPiece) {
-        return chessBoard.promotionPosition(color);
+        return chessBoard.promotion(color, promotionPiece.pieceRule());
     }
 
     @Override
@@ -43,6 +47,16 @@ public class RunningState implements ChessGameState {
         return chessBoard.calculateScoreStatus();
     }
 
+    @Override
+    public List<Move> movableMoves() {
+        return new MoveGenerator(chessBoard).pseudoLegalMoves(color);
+    }
+
+    @Override
+    public List<Move> movableMoves(Position source) {
+        return new MoveGenerator(chessBoard).pseudoLegalMoves(color, source);
+    }
+
     @Override
     public Map<Position, Piece> pieces() {
         return chessBoard.getPieces();
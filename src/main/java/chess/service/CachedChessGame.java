@@ -0,0 +1,65 @@
+package chess.service;
+
+import chess.domain.ChessBoard;
+import chess.domain.ChessGame;
+import chess.domain.state.ChessGameState;
+import chess.domain.state.Turn;
+
+public class CachedChessGame {
+
+    private final ChessBoard chessBoard;
+    private ChessGame chessGame;
+    private long snapshotVersion;
+    private long lastAccessTime;
+
+    public CachedChessGame(ChessGame chessGame, ChessBoard chessBoard) {
+        this.chessGame = chessGame;
+        this.chessBoard = chessBoard;
+        this.snapshotVersion = chessGame.getVersion();
+    }
+
+    public ChessGameState state() {
+        return turn().createGameTurn(chessBoard);
+    }
+
+    public Turn turn() {
+        return Turn.valueOf(chessGame.getTurn());
+    }
+
+    public void changeTurn(Turn turn, long version) {
+        chessGame = new ChessGame(chessGame.getId(), turn.name(), chessGame.getTitle(), chessGame.getPassword(),
+                version);
+    }
+
+    public long version() {
+        return chessGame.getVersion();
+    }
+
+    public long pliesSinceSnapshot() {
+        return version() - snapshotVersion;
+    }
+
+    public void refreshSnapshotVersion() {
+        this.snapshotVersion = version();
+    }
+
+    public long getId() {
+        return chessGame.getId();
+    }
+
+    public ChessGame getChessGame() {
+        return chessGame;
+    }
+
+    public ChessBoard getChessBoard() {
+        return chessBoard;
+    }
+
+    long getLastAccessTime() {
+        return lastAccessTime;
+    }
+
+    void access(long accessTime) {
+        this.lastAccessTime = accessTime;
+    }
+}
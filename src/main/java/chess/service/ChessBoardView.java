@@ -0,0 +1,53 @@
+package chess.service;
+
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class ChessBoardView {
+
+    private final long version;
+    private final Map<Position, Piece> pieces;
+    private final Set<Position> emptyPositions;
+
+    private ChessBoardView(long version, Map<Position, Piece> pieces, Set<Position> emptyPositions) {
+        this.version = version;
+        this.pieces = pieces;
+        this.emptyPositions = emptyPositions;
+    }
+
+    public static ChessBoardView full(long version, Map<Position, Piece> pieces) {
+        return new ChessBoardView(version, pieces, Set.of());
+    }
+
+    public static ChessBoardView changed(long version, Map<Position, Piece> pieces,
+                                         Collection<Position> changedPositions) {
+        Map<Position, Piece> changedPieces = new HashMap<>();
+        Set<Position> emptyPositions = new HashSet<>();
+        for (Position position : changedPositions) {
+            Piece piece = pieces.get(position);
+            if (piece == null) {
+                emptyPositions.add(position);
+                continue;
+            }
+            changedPieces.put(position, piece);
+        }
+        return new ChessBoardView(version, changedPieces, emptyPositions);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Map<Position, Piece> getPieces() {
+        return pieces;
+    }
+
+    public Set<Position> getEmptyPositions() {
+        return emptyPositions;
+    }
+}
@@ -0,0 +1,124 @@
+package chess.service;
+
+import chess.dao.ChessGameArchiveDao;
+import chess.dao.ChessGameDao;
+import chess.dao.MoveDao;
+import chess.dao.PieceDao;
+import chess.domain.ArchivedChessGame;
+import chess.domain.ChessBoard;
+import chess.domain.ChessGame;
+import chess.domain.MoveRecord;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class ChessGameArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(ChessGameArchiver.class);
+
+    private final ChessGameDao chessGameDao;
+    private final PieceDao pieceDao;
+    private final MoveDao moveDao;
+    private final ChessGameArchiveDao chessGameArchiveDao;
+    private final ChessGameWriter chessGameWriter;
+    private final ChessGameCache chessGameCache;
+    private final ChessGameLocks chessGameLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    public ChessGameArchiver(ChessGameDao chessGameDao, PieceDao pieceDao, MoveDao moveDao,
+                             ChessGameArchiveDao chessGameArchiveDao, ChessGameWriter chessGameWriter,
+                             ChessGameCache chessGameCache, ChessGameLocks chessGameLocks,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${chess.archive.enabled:false}") boolean enabled,
+                             @Value("${chess.archive.interval-millis:60000}") long intervalMillis,
+                             @Value("${chess.archive.batch-size:100}") int batchSize) {
+        validatePositive(intervalMillis, batchSize);
+        this.chessGameDao = chessGameDao;
+        this.pieceDao = pieceDao;
+        this.moveDao = moveDao;
+        this.chessGameArchiveDao = chessGameArchiveDao;
+        this.chessGameWriter = chessGameWriter;
+        this.chessGameCache = chessGameCache;
+        this.chessGameLocks = chessGameLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.scheduler = startScheduler(enabled, intervalMillis);
+    }
+
+    private void validatePositive(long intervalMillis, int batchSize) {
+        if (intervalMillis <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("보관 주기와 한 번에 보관할 게임 수는 1 이상이어야 합니다.");
+        }
+    }
+
+    private ScheduledExecutorService startScheduler(boolean enabled, long intervalMillis) {
+        if (!enabled) {
+            return null;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chess-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::archiveQuietly, intervalMillis, intervalMillis,
+                TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    public int archiveEndedChessGames() {
+        chessGameWriter.flush();
+        List<Long> chessGameIds = chessGameDao.findEndedChessGameIds(batchSize);
+        chessGameIds.forEach(this::archive);
+        return chessGameIds.size();
+    }
+
+    private void archive(long chessGameId) {
+        transactionTemplate.executeWithoutResult(status ->
+                chessGameLocks.execute(chessGameId, () -> moveToArchive(chessGameId)));
+    }
+
+    private void moveToArchive(long chessGameId) {
+        ChessGame chessGame;
+        try {
+            chessGame = chessGameDao.findChessGame(chessGameId);
+        } catch (EmptyResultDataAccessException deletedChessGame) {
+            return;
+        }
+        ChessBoard chessBoard = pieceDao.findChessBoardByChessGameId(chessGameId);
+        List<MoveRecord> moveRecords = moveDao.findMoveRecords(chessGameId, 0);
+        moveRecords.stream()
+                .filter(moveRecord -> moveRecord.ply() > chessGame.getVersion())
+                .forEach(moveRecord -> moveRecord.replay(chessBoard));
+
+        chessGameArchiveDao.save(ArchivedChessGame.of(chessGame, chessBoard, moveRecords));
+        chessGameDao.deleteChessGameById(chessGameId);
+        chessGameCache.invalidate(chessGameId);
+    }
+
+    private void archiveQuietly() {
+        try {
+            archiveEndedChessGames();
+        } catch (RuntimeException e) {
+            log.error("종료된 체스 게임 보관 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+}
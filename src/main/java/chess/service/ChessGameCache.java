@@ -0,0 +1,126 @@
+package chess.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChessGameCache {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final int maximumSize;
+    private final long idleTimeoutMillis;
+    private final LongSupplier clock;
+    private final LinkedHashMap<Long, CachedChessGame> games;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    @Autowired
+    public ChessGameCache(@Value("${chess.cache.maximum-size:1000}") int maximumSize,
+                          @Value("${chess.cache.idle-timeout-minutes:30}") long idleTimeoutMinutes) {
+        this(maximumSize, idleTimeoutMinutes * MILLIS_PER_MINUTE, System::currentTimeMillis);
+    }
+
+    ChessGameCache(int maximumSize, long idleTimeoutMillis, LongSupplier clock) {
+        validateMaximumSize(maximumSize);
+        this.maximumSize = maximumSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.clock = clock;
+        this.games = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+    }
+
+    private void validateMaximumSize(int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("캐시 크기는 0 이상이어야 합니다.");
+        }
+    }
+
+    public CachedChessGame get(long chessGameId, LongFunction<CachedChessGame> loader) {
+        CachedChessGame cachedChessGame = find(chessGameId);
+        if (cachedChessGame != null) {
+            return cachedChessGame;
+        }
+        return putIfAbsent(loader.apply(chessGameId));
+    }
+
+    private synchronized CachedChessGame find(long chessGameId) {
+        long now = clock.getAsLong();
+        evictIdleGames(now);
+
+        CachedChessGame cachedChessGame = games.get(chessGameId);
+        if (cachedChessGame == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        cachedChessGame.access(now);
+        return cachedChessGame;
+    }
+
+    private synchronized CachedChessGame putIfAbsent(CachedChessGame loadedChessGame) {
+        CachedChessGame cachedChessGame = games.get(loadedChessGame.getId());
+        if (cachedChessGame != null) {
+            return cachedChessGame;
+        }
+        put(loadedChessGame);
+        return loadedChessGame;
+    }
+
+    public synchronized void put(CachedChessGame cachedChessGame) {
+        long now = clock.getAsLong();
+        cachedChessGame.access(now);
+        games.put(cachedChessGame.getId(), cachedChessGame);
+        evictIdleGames(now);
+        evictOverflowGames();
+    }
+
+    private void evictIdleGames(long now) {
+        Iterator<CachedChessGame> iterator = games.values().iterator();
+        while (iterator.hasNext()) {
+            CachedChessGame eldest = iterator.next();
+            if (now - eldest.getLastAccessTime() < idleTimeoutMillis) {
+                return;
+            }
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private void evictOverflowGames() {
+        Iterator<CachedChessGame> iterator = games.values().iterator();
+        while (games.size() > maximumSize) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    public synchronized void invalidate(long chessGameId) {
+        games.remove(chessGameId);
+    }
+
+    public synchronized int size() {
+        return games.size();
+    }
+
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+}
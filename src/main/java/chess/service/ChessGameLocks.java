@@ -0,0 +1,86 @@
+package chess.service;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ChessGameLocks {
+
+    private static final int STRIPES_PER_PROCESSOR = 16;
+
+    private final ReentrantLock[] locks;
+
+    public ChessGameLocks(@Value("${chess.lock.stripes:0}") int stripes) {
+        validateStripes(stripes);
+        this.locks = new ReentrantLock[stripeCount(stripes)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    private void validateStripes(int stripes) {
+        if (stripes < 0) {
+            throw new IllegalArgumentException("잠금 개수는 0 이상이어야 합니다.");
+        }
+    }
+
+    private int stripeCount(int stripes) {
+        if (stripes == 0) {
+            stripes = Runtime.getRuntime().availableProcessors() * STRIPES_PER_PROCESSOR;
+        }
+        if (stripes == 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(stripes - 1) << 1;
+    }
+
+    public <T> T execute(long chessGameId, Supplier<T> command) {
+        ReentrantLock lock = lockOf(chessGameId);
+        lock.lock();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            unlockAfterCompletion(lock);
+            return command.get();
+        }
+        try {
+            return command.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void execute(long chessGameId, Runnable command) {
+        execute(chessGameId, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    private ReentrantLock lockOf(long chessGameId) {
+        int hash = Long.hashCode(chessGameId);
+        hash ^= hash >>> 16;
+        return locks[hash & (locks.length - 1)];
+    }
+
+    private void unlockAfterCompletion(ReentrantLock lock) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    int stripes() {
+        return locks.length;
+    }
+}
@@ -1,107 +1,386 @@
 package chess.service;
 
-import static chess.domain.state.Turn.END;
 import static chess.domain.state.Turn.WHITE_TURN;
 
+import chess.config.ReplicaRoutingDataSource;
+import chess.dao.ChessGameArchiveDao;
 import chess.dao.ChessGameDao;
+import chess.dao.MoveDao;
 import chess.dao.PieceDao;
+import chess.domain.ArchivedChessGame;
 import chess.domain.ChessBoard;
 import chess.domain.ChessGame;
+import chess.domain.ChessGameStatus;
+import chess.domain.ChessGameSummary;
 import chess.domain.Color;
+import chess.domain.Move;
+import chess.domain.MoveRecord;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.PromotionPiece;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceFactory;
 import chess.domain.state.ChessGameState;
 import chess.domain.state.Turn;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
 public class ChessGameService {
 
+    private static final int SNAPSHOT_INTERVAL = 32;
+    private static final int MAX_LIST_LIMIT = 100;
+
     private final PieceDao pieceDao;
     private final ChessGameDao chessGameDao;
+    private final MoveDao moveDao;
+    private final ChessGameArchiveDao chessGameArchiveDao;
+    private final ChessGameWriter chessGameWriter;
+    private final ChessGameCache chessGameCache;
+    private final ChessGameLocks chessGameLocks;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ChessGameService(PieceDao pieceDao, ChessGameDao chessGameDao) {
+    public ChessGameService(PieceDao pieceDao, ChessGameDao chessGameDao, MoveDao moveDao,
+                            ChessGameArchiveDao chessGameArchiveDao, ChessGameWriter chessGameWriter,
+                            ChessGameCache chessGameCache, ChessGameLocks chessGameLocks,
+                            ApplicationEventPublisher eventPublisher) {
         this.pieceDao = pieceDao;
         this.chessGameDao = chessGameDao;
+        this.moveDao = moveDao;
+        this.chessGameArchiveDao = chessGameArchiveDao;
+        this.chessGameWriter = chessGameWriter;
+        this.chessGameCache = chessGameCache;
+        this.chessGameLocks = chessGameLocks;
+        this.eventPublisher = eventPublisher;
     }
 
     public long createNewChessGame(String title, String password) {
         ChessGame chessGame = new ChessGame(WHITE_TURN.name(), title, password);
         ChessGame savedChessGame = chessGameDao.createChessGame(chessGame);
-        pieceDao.savePieces(savedChessGame.getId(), PieceFactory.createNewChessBoard());
+        validateNotArchivedTitle(title);
+        pieceDao.saveSnapshot(savedChessGame.getId(), PieceFactory.createNewChessBoard(), WHITE_TURN,
+                savedChessGame.getVersion());
         return savedChessGame.getId();
     }
 
-    public List<ChessGame> findAllChessGame() {
-        return chessGameDao.findAllChessGame();
+    private void validateNotArchivedTitle(String title) {
+        if (chessGameArchiveDao.existsByTitle(title)) {
+            throw new IllegalArgumentException("중복된 체스 게임 제목이 이미 존재합니다.");
+        }
     }
 
-    public Map<Position, Piece> findChessBoard(long chessGameId, String password) {
-        ChessGame chessGame = chessGameDao.findChessGame(chessGameId);
-        chessGame.validatePassword(password);
-        return pieceDao.findChessBoardByChessGameId(chessGameId).getPieces();
+    @Transactional(readOnly = true)
+    public List<ChessGameSummary> findChessGames(long after, int limit, ChessGameStatus status) {
+        validateLimit(limit);
+        if (status == null) {
+            return chessGameDao.findChessGames(after, limit);
+        }
+        return chessGameDao.findChessGames(after, limit, status);
+    }
+
+    @Transactional(readOnly = true)
+    public void forEachChessGame(Consumer<ChessGameSummary> action) {
+        chessGameDao.forEachChessGame(action);
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIST_LIMIT) {
+            throw new IllegalArgumentException("체스 게임 목록은 한 번에 1개 이상 100개 이하로 조회할 수 있습니다.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ChessBoardView findChessBoard(long chessGameId, String password) {
+        return chessGameLocks.execute(chessGameId, () -> {
+            CachedChessGame cachedChessGame = findCachedChessGame(chessGameId);
+            cachedChessGame.getChessGame().validatePassword(password);
+            return ChessBoardView.full(cachedChessGame.version(), cachedChessGame.getChessBoard().getPieces());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public ChessBoardView findChessBoard(long chessGameId, String password, long since) {
+        return chessGameLocks.execute(chessGameId, () -> {
+            CachedChessGame cachedChessGame = findCachedChessGame(chessGameId);
+            cachedChessGame.getChessGame().validatePassword(password);
+            validateSince(since, cachedChessGame.version());
+            return ChessBoardView.changed(cachedChessGame.version(), cachedChessGame.getChessBoard().getPieces(),
+                    changedPositions(chessGameId, since, cachedChessGame.version()));
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public long findChessBoardVersion(long chessGameId, String password) {
+        return chessGameLocks.execute(chessGameId, () -> {
+            CachedChessGame cachedChessGame = findCachedChessGame(chessGameId);
+            cachedChessGame.getChessGame().validatePassword(password);
+            return cachedChessGame.version();
+        });
+    }
+
+    private void validateSince(long since, long version) {
+        if (since < 0 || since > version) {
+            throw new IllegalArgumentException("기준 버전은 0 이상 현재 버전 이하여야 합니다.");
+        }
+    }
+
+    private Collection<Position> changedPositions(long chessGameId, long since, long version) {
+        if (since == version) {
+            return Set.of();
+        }
+        List<MoveRecord> moveRecords = ReplicaRoutingDataSource.onPrimary(
+                () -> findMoveRecordsSince(chessGameId, since));
+        Set<Long> plies = new HashSet<>();
+        Set<Position> positions = new HashSet<>();
+        for (MoveRecord moveRecord : moveRecords) {
+            if (moveRecord.ply() <= since || moveRecord.ply() > version || !plies.add(moveRecord.ply())) {
+                continue;
+            }
+            addChangedPositions(positions, moveRecord);
+        }
+        if (plies.size() < version - since) {
+            return Position.values();
+        }
+        return positions;
+    }
+
+    private List<MoveRecord> findMoveRecordsSince(long chessGameId, long since) {
+        List<MoveRecord> moveRecords = new ArrayList<>(chessGameWriter.pendingMoveRecords(chessGameId));
+        moveRecords.addAll(moveDao.findMoveRecords(chessGameId, since));
+        if (moveRecords.isEmpty()) {
+            chessGameArchiveDao.findArchivedChessGame(chessGameId)
+                    .ifPresent(archivedChessGame -> moveRecords.addAll(archivedChessGame.moveRecords()));
+        }
+        return moveRecords;
+    }
+
+    private void addChangedPositions(Set<Position> positions, MoveRecord moveRecord) {
+        if (moveRecord.isEnd()) {
+            return;
+        }
+        positions.add(moveRecord.source());
+        positions.add(moveRecord.target());
+    }
+
+    @Transactional(readOnly = true)
+    public ChessGame findChessGame(long chessGameId) {
+        return chessGameLocks.execute(chessGameId, () -> findCachedChessGame(chessGameId).getChessGame());
+    }
+
+    @Transactional(readOnly = true)
+    public ChessGame findChessGame(long chessGameId, String password) {
+        return chessGameLocks.execute(chessGameId, () -> {
+            ChessGame chessGame = findCachedChessGame(chessGameId).getChessGame();
+            chessGame.validatePassword(password);
+            return chessGame;
+        });
+    }
+
+    public MoveResult move(long chessGameId, Position source, Position target) {
+        return chessGameLocks.execute(chessGameId, () -> {
+            CachedChessGame cachedChessGame = findCachedChessGame(chessGameId);
+            Piece capturedPiece = findCapturedPiece(cachedChessGame.getChessBoard(), target);
+            ChessGameState chessGameState = cachedChessGame.state();
+            MoveResult moveResult = chessGameState.movePiece(source, target);
+            if (!moveResult.isSuccess()) {
+                return moveResult;
+            }
+            invalidateOnRollback(chessGameId);
+
+            Turn nextTurn = chessGameState.nextTurn();
+            long ply = cachedChessGame.version() + 1;
+            appendMoveRecord(cachedChessGame, MoveRecord.move(ply, source, target, capturedPiece, nextTurn));
+            return moveResult;
+        });
     }
 
-    public void move(long chessGameId, Position source, Position target) {
-        ChessGameState chessGameState = findChessGameState(chessGameId);
-        chessGameState.movePiece(source, target);
+    public MoveResult moveAndPromote(long chessGameId, Position source, Position target,
+                                     PromotionPiece promotionPiece) {
+        return chessGameLocks.execute(chessGameId, () -> {
+            CachedChessGame cachedChessGame = findCachedChessGame(chessGameId);
+            ChessBoard chessBoard = cachedChessGame.getChessBoard();
+            Piece capturedPiece = findCapturedPiece(chessBoard, target);
+            ChessGameState chessGameState = cachedChessGame.state();
+            MoveResult moveResult = chessGameState.movePiece(source, target);
+            if (!moveResult.isSuccess()) {
+                return moveResult;
+            }
+            invalidateOnRollback(chessGameId);
+
+            Turn turnAfterMove = chessGameState.nextTurn();
+            ChessGameState promotionState = turnAfterMove.createGameTurn(chessBoard);
+            Position position = promoteOrDiscard(chessGameId, promotionState, promotionPiece);
+            long ply = cachedChessGame.version() + 1;
+            appendMoveRecord(cachedChessGame, MoveRecord.move(ply, source, target, capturedPiece, turnAfterMove));
+            appendMoveRecord(cachedChessGame,
+                    MoveRecord.promotion(ply + 1, position, promotionPiece, promotionState.nextTurn()));
+            return moveResult;
+        });
+    }
 
-        pieceDao.delete(chessGameId, target);
-        pieceDao.updatePiecePosition(chessGameId, source, target);
-        chessGameDao.changeChessGameTurn(chessGameId, chessGameState.nextTurn());
+    private Position promoteOrDiscard(long chessGameId, ChessGameState chessGameState,
+                                      PromotionPiece promotionPiece) {
+        try {
+            return chessGameState.promotion(promotionPiece);
+        } catch (IllegalStateException e) {
+            chessGameCache.invalidate(chessGameId);
+            throw e;
+        }
     }
 
     public void promotion(long chessGameId, PromotionPiece promotionPiece) {
-        ChessGameState chessGameState = findChessGameState(chessGameId);
-        Position position = chessGameState.promotion(promotionPiece);
+        chessGameLocks.execute(chessGameId, () -> {
+            CachedChessGame cachedChessGame = findCachedChessGame(chessGameId);
+            ChessGameState chessGameState = cachedChessGame.state();
+            Position position = chessGameState.promotion(promotionPiece);
+            invalidateOnRollback(chessGameId);
 
-        pieceDao.updatePieceRule(chessGameId, position, promotionPiece.pieceRule());
-        chessGameDao.changeChessGameTurn(chessGameId, chessGameState.nextTurn());
+            Turn nextTurn = chessGameState.nextTurn();
+            long ply = cachedChessGame.version() + 1;
+            appendMoveRecord(cachedChessGame, MoveRecord.promotion(ply, position, promotionPiece, nextTurn));
+        });
     }
 
     public void endChessGame(long chessGameId) {
-        ChessGame chessGame = chessGameDao.findChessGame(chessGameId);
-        chessGame.validateRunningGame();
+        chessGameLocks.execute(chessGameId, () -> {
+            CachedChessGame cachedChessGame = findCachedChessGame(chessGameId);
+            cachedChessGame.getChessGame().validateRunningGame();
+            invalidateOnRollback(chessGameId);
 
-        chessGameDao.changeChessGameTurn(chessGameId, END);
+            appendMoveRecord(cachedChessGame, MoveRecord.end(cachedChessGame.version() + 1));
+        });
     }
 
+    @Transactional(readOnly = true)
     public Map<Color, Double> currentScore(long chessGameId) {
-        ChessGameState chessGameState = findChessGameState(chessGameId);
-        return chessGameState.currentScore();
+        return chessGameLocks.execute(chessGameId, () -> findCachedChessGame(chessGameId).state().currentScore());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Move> movableMoves(long chessGameId) {
+        return chessGameLocks.execute(chessGameId, () -> findCachedChessGame(chessGameId).state().movableMoves());
     }
 
+    @Transactional(readOnly = true)
+    public List<Move> movableMoves(long chessGameId, Position source) {
+        return chessGameLocks.execute(chessGameId,
+                () -> findCachedChessGame(chessGameId).state().movableMoves(source));
+    }
+
+    @Transactional(readOnly = true)
     public boolean isEndGame(long chessGameId) {
-        Turn currentTurn = findChessGameTurn(chessGameId);
-        return currentTurn.isEnd();
+        return chessGameLocks.execute(chessGameId, () -> findCachedChessGame(chessGameId).turn().isEnd());
     }
 
+    @Transactional(readOnly = true)
     public Color winner(long chessGameId) {
-        ChessBoard chessBoard = pieceDao.findChessBoardByChessGameId(chessGameId);
-        return chessBoard.winner();
+        return chessGameLocks.execute(chessGameId, () -> findCachedChessGame(chessGameId).getChessBoard().winner());
     }
 
-    public void deleteChessGame(long chessGameId, String password){
-        ChessGame chessGame = chessGameDao.findChessGame(chessGameId);
-        chessGame.validatePassword(password);
-        chessGame.validateEndGame();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteChessGame(long chessGameId, String password) {
+        chessGameLocks.execute(chessGameId, () -> {
+            ChessGame chessGame = findCachedChessGame(chessGameId).getChessGame();
+            chessGame.validatePassword(password);
+            chessGame.validateEndGame();
+
+            chessGameWriter.flush(chessGameId);
+            if (chessGameArchiveDao.delete(chessGameId) == 0) {
+                chessGameDao.deleteChessGame(chessGame);
+            }
+            chessGameCache.invalidate(chessGameId);
+        });
+    }
 
-        chessGameDao.deleteChessGame(chessGame);
+    private Piece findCapturedPiece(ChessBoard chessBoard, Position target) {
+        if (chessBoard.isPositionEmpty(target)) {
+            return null;
+        }
+        return chessBoard.pieceByPosition(target);
     }
 
-    private ChessGameState findChessGameState(long chessGameId) {
-        Turn currentTurn = findChessGameTurn(chessGameId);
+    private void appendMoveRecord(CachedChessGame cachedChessGame, MoveRecord moveRecord) {
+        chessGameWriter.saveMoveRecord(cachedChessGame.getId(), moveRecord);
+        cachedChessGame.changeTurn(moveRecord.turn(), moveRecord.ply());
+        refreshSnapshot(cachedChessGame);
+        eventPublisher.publishEvent(new MoveRecordedEvent(cachedChessGame.getId(), moveRecord));
+    }
+
+    private void refreshSnapshot(CachedChessGame cachedChessGame) {
+        if (cachedChessGame.pliesSinceSnapshot() < SNAPSHOT_INTERVAL && !cachedChessGame.turn().isEnd()) {
+            return;
+        }
+        chessGameWriter.saveSnapshot(cachedChessGame.getId(), cachedChessGame.getChessBoard().getPieces(),
+                cachedChessGame.turn(), cachedChessGame.version());
+        cachedChessGame.refreshSnapshotVersion();
+    }
+
+    private CachedChessGame findCachedChessGame(long chessGameId) {
+        return chessGameCache.get(chessGameId,
+                id -> ReplicaRoutingDataSource.onPrimary(() -> loadChessGame(id)));
+    }
+
+    private CachedChessGame loadChessGame(long chessGameId) {
+        List<MoveRecord> pendingMoveRecords = chessGameWriter.pendingMoveRecords(chessGameId);
+        try {
+            CachedChessGame cachedChessGame = loadLiveChessGame(chessGameId);
+            replay(cachedChessGame, pendingMoveRecords);
+            return cachedChessGame;
+        } catch (EmptyResultDataAccessException notLiveChessGame) {
+            ArchivedChessGame archivedChessGame = chessGameArchiveDao.findArchivedChessGame(chessGameId)
+                    .orElseThrow(() -> notLiveChessGame);
+            return new CachedChessGame(archivedChessGame.toChessGame(), archivedChessGame.toChessBoard());
+        }
+    }
+
+    private CachedChessGame loadLiveChessGame(long chessGameId) {
+        ChessGame chessGame = chessGameDao.findChessGame(chessGameId);
         ChessBoard chessBoard = pieceDao.findChessBoardByChessGameId(chessGameId);
-        return currentTurn.createGameTurn(chessBoard);
+        CachedChessGame cachedChessGame = new CachedChessGame(chessGame, chessBoard);
+        replay(cachedChessGame, moveDao.findMoveRecords(chessGameId, chessGame.getVersion()));
+        return cachedChessGame;
     }
 
-    private Turn findChessGameTurn(long chessGameId) {
-        return Turn.valueOf(chessGameDao.findChessGame(chessGameId).getTurn());
+    private void replay(CachedChessGame cachedChessGame, List<MoveRecord> moveRecords) {
+        for (MoveRecord moveRecord : moveRecords) {
+            if (moveRecord.ply() <= cachedChessGame.version()) {
+                continue;
+            }
+            moveRecord.replay(cachedChessGame.getChessBoard());
+            cachedChessGame.changeTurn(moveRecord.turn(), moveRecord.ply());
+        }
+    }
+
+    private void invalidateOnRollback(long chessGameId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    chessGameCache.invalidate(chessGameId);
+                }
+            }
+        });
     }
 }
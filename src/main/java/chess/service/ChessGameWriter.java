@@ -0,0 +1,254 @@
+package chess.service;
+
+import chess.dao.MoveDao;
+import chess.dao.PieceDao;
+import chess.domain.ChessGameSnapshot;
+import chess.domain.MoveRecord;
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import chess.domain.state.Turn;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChessGameWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ChessGameWriter.class);
+
+    private final MoveDao moveDao;
+    private final PieceDao pieceDao;
+    private final ChessGameCache chessGameCache;
+    private final boolean writeBehind;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<PendingMoveRecord> pendingMoveRecords;
+    private final Map<Long, ChessGameSnapshot> pendingSnapshots = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    public ChessGameWriter(MoveDao moveDao, PieceDao pieceDao, ChessGameCache chessGameCache,
+                           @Value("${chess.write-behind.enabled:false}") boolean writeBehind,
+                           @Value("${chess.write-behind.flush-interval-millis:100}") long flushIntervalMillis,
+                           @Value("${chess.write-behind.queue-capacity:10000}") int queueCapacity,
+                           @Value("${chess.write-behind.offer-timeout-millis:1000}") long offerTimeoutMillis) {
+        validatePositive(flushIntervalMillis, queueCapacity);
+        this.moveDao = moveDao;
+        this.pieceDao = pieceDao;
+        this.chessGameCache = chessGameCache;
+        this.writeBehind = writeBehind;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.pendingMoveRecords = new LinkedBlockingQueue<>(queueCapacity);
+        this.flusher = startFlusher(flushIntervalMillis);
+    }
+
+    private void validatePositive(long flushIntervalMillis, int queueCapacity) {
+        if (flushIntervalMillis <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("저장 주기와 대기열 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    private ScheduledExecutorService startFlusher(long flushIntervalMillis) {
+        if (!writeBehind) {
+            return null;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chess-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    public void saveMoveRecord(long chessGameId, MoveRecord moveRecord) {
+        if (!writeBehind) {
+            moveDao.save(chessGameId, moveRecord);
+            return;
+        }
+        try {
+            if (!pendingMoveRecords.offer(new PendingMoveRecord(chessGameId, moveRecord), offerTimeoutMillis,
+                    TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("저장 대기 중인 기보가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("저장 대기 중인 기보가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    public void saveSnapshot(long chessGameId, Map<Position, Piece> pieces, Turn turn, long version) {
+        if (!writeBehind) {
+            pieceDao.saveSnapshot(chessGameId, pieces, turn, version);
+            return;
+        }
+        pendingSnapshots.merge(chessGameId, ChessGameSnapshot.of(chessGameId, pieces, turn, version),
+                ChessGameSnapshot::newer);
+    }
+
+    public synchronized List<MoveRecord> pendingMoveRecords(long chessGameId) {
+        if (!writeBehind) {
+            return List.of();
+        }
+        return pendingMoveRecords.stream()
+                .filter(pendingMoveRecord -> pendingMoveRecord.chessGameId == chessGameId)
+                .map(pendingMoveRecord -> pendingMoveRecord.moveRecord)
+                .collect(Collectors.toList());
+    }
+
+    public synchronized void flush() {
+        if (!writeBehind) {
+            return;
+        }
+        List<ChessGameSnapshot> snapshots = drainSnapshots();
+        List<PendingMoveRecord> drained = new ArrayList<>();
+        pendingMoveRecords.drainTo(drained);
+        flush(snapshots, drained);
+    }
+
+    public synchronized void flush(long chessGameId) {
+        if (!writeBehind) {
+            return;
+        }
+        List<ChessGameSnapshot> snapshots = new ArrayList<>();
+        ChessGameSnapshot snapshot = pendingSnapshots.remove(chessGameId);
+        if (snapshot != null) {
+            snapshots.add(snapshot);
+        }
+        List<PendingMoveRecord> drained = new ArrayList<>();
+        Iterator<PendingMoveRecord> iterator = pendingMoveRecords.iterator();
+        while (iterator.hasNext()) {
+            PendingMoveRecord pendingMoveRecord = iterator.next();
+            if (pendingMoveRecord.chessGameId == chessGameId) {
+                drained.add(pendingMoveRecord);
+                iterator.remove();
+            }
+        }
+        flush(snapshots, drained);
+    }
+
+    private void flush(List<ChessGameSnapshot> snapshots, List<PendingMoveRecord> drained) {
+        Set<Long> discardedChessGameIds = flushMoveRecords(groupByChessGameId(drained));
+        snapshots.removeIf(snapshot -> discardedChessGameIds.contains(snapshot.getChessGameId()));
+        flushSnapshots(snapshots);
+    }
+
+    private Map<Long, List<MoveRecord>> groupByChessGameId(List<PendingMoveRecord> drained) {
+        Map<Long, List<MoveRecord>> moveRecordsByChessGameId = new LinkedHashMap<>();
+        for (PendingMoveRecord pendingMoveRecord : drained) {
+            moveRecordsByChessGameId.computeIfAbsent(pendingMoveRecord.chessGameId, id -> new ArrayList<>())
+                    .add(pendingMoveRecord.moveRecord);
+        }
+        return moveRecordsByChessGameId;
+    }
+
+    private List<ChessGameSnapshot> drainSnapshots() {
+        List<ChessGameSnapshot> snapshots = new ArrayList<>();
+        for (Long chessGameId : pendingSnapshots.keySet()) {
+            ChessGameSnapshot snapshot = pendingSnapshots.remove(chessGameId);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    private Set<Long> flushMoveRecords(Map<Long, List<MoveRecord>> moveRecordsByChessGameId) {
+        Set<Long> discardedChessGameIds = new HashSet<>();
+        if (moveRecordsByChessGameId.isEmpty()) {
+            return discardedChessGameIds;
+        }
+        try {
+            moveDao.saveAll(moveRecordsByChessGameId);
+        } catch (DataAccessException batchFailure) {
+            moveRecordsByChessGameId.forEach((chessGameId, moveRecords) -> {
+                try {
+                    moveDao.saveAll(Map.of(chessGameId, unsavedMoveRecords(chessGameId, moveRecords)));
+                } catch (DataAccessException e) {
+                    discardPending(chessGameId);
+                    discard(chessGameId, e);
+                    discardedChessGameIds.add(chessGameId);
+                }
+            });
+        }
+        return discardedChessGameIds;
+    }
+
+    private List<MoveRecord> unsavedMoveRecords(long chessGameId, List<MoveRecord> moveRecords) {
+        long afterPly = moveRecords.get(0).ply() - 1;
+        Set<MoveRecord> savedMoveRecords = new HashSet<>(moveDao.findMoveRecords(chessGameId, afterPly));
+        return moveRecords.stream()
+                .filter(moveRecord -> !savedMoveRecords.contains(moveRecord))
+                .collect(Collectors.toList());
+    }
+
+    private void flushSnapshots(List<ChessGameSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        try {
+            pieceDao.saveSnapshots(snapshots);
+        } catch (DataAccessException e) {
+            snapshots.forEach(snapshot -> discard(snapshot.getChessGameId(), e));
+        }
+    }
+
+    private void discard(long chessGameId, DataAccessException e) {
+        log.warn("체스 게임 {}의 지연 저장에 실패해 메모리의 게임을 버립니다.", chessGameId, e);
+        chessGameCache.invalidate(chessGameId);
+    }
+
+    private void discardPending(long chessGameId) {
+        pendingMoveRecords.removeIf(pendingMoveRecord -> pendingMoveRecord.chessGameId == chessGameId);
+        pendingSnapshots.remove(chessGameId);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("지연 저장 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (!writeBehind) {
+            return;
+        }
+        flusher.shutdown();
+        flusher.awaitTermination(offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        flush();
+    }
+
+    int pendingMoveRecordCount() {
+        return pendingMoveRecords.size();
+    }
+
+    private static class PendingMoveRecord {
+
+        private final long chessGameId;
+        private final MoveRecord moveRecord;
+
+        private PendingMoveRecord(long chessGameId, MoveRecord moveRecord) {
+            this.chessGameId = chessGameId;
+            this.moveRecord = moveRecord;
+        }
+    }
+}
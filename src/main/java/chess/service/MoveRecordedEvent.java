@@ -0,0 +1,22 @@
+package chess.service;
+
+import chess.domain.MoveRecord;
+
+public class MoveRecordedEvent {
+
+    private final long chessGameId;
+    private final MoveRecord moveRecord;
+
+    public MoveRecordedEvent(long chessGameId, MoveRecord moveRecord) {
+        this.chessGameId = chessGameId;
+        this.moveRecord = moveRecord;
+    }
+
+    public long getChessGameId() {
+        return chessGameId;
+    }
+
+    public MoveRecord getMoveRecord() {
+        return moveRecord;
+    }
+}
@@ -1,3 +1,6 @@
+const PAGE_SIZE = 20;
+let lastChessGameId = 0;
+
 window.onload = async function () {
     await findAllChessGames();
 }
@@ -25,12 +28,14 @@ function showAllChessGames(chessGames) {
             gameDiv.appendChild(deleteButton);
 
             board.appendChild(gameDiv);
+            lastChessGameId = element.id;
         }
     )
+    document.getElementById("more").hidden = chessGames.length < PAGE_SIZE;
 }
 
 async function findAllChessGames() {
-    const chessGames = await fetch("/chessgames")
+    const chessGames = await fetch("/chessgames?after=" + lastChessGameId + "&limit=" + PAGE_SIZE)
         .then(response => handlingException(response))
         .then((response) => response.json())
         .catch(error => {
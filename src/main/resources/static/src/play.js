@@ -4,59 +4,131 @@ let gameUri = new URLSearchParams(window.location.search).get("location");
 
 let source = "";
 let target = "";
+let movablePositions = [];
+let eventSource = null;
+let boardVersion = null;
 
-window.onload = async function () {
-    await refreshAndDisplayBoard();
+window.onload = function () {
+    subscribeEvents();
 }
 
-async function refreshAndDisplayBoard() {
-    await refreshBoard().then(displayBoard);
+function subscribeEvents() {
+    eventSource = new EventSource(gameUri + "/events?password=" + gamePassword);
+    ["sync", "move", "promotion", "end"].forEach(type => {
+        eventSource.addEventListener(type, function (message) {
+            handleChessGameEvent(JSON.parse(message.data));
+        });
+    });
 }
 
-async function refreshBoard() {
+async function handleChessGameEvent(event) {
+    if (event.type === "sync") {
+        if (event.version !== boardVersion) {
+            await refreshAndDisplayBoard();
+        }
+        closeEventsIfEnd(event);
+        return;
+    }
+    if (boardVersion === null || event.version <= boardVersion) {
+        return;
+    }
+    if (event.version === boardVersion + 1) {
+        applyChessGameEvent(event);
+        boardVersion = event.version;
+    } else {
+        await refreshAndDisplayBoard();
+    }
+    closeEventsIfEnd(event);
+    if (event.turn === "END" && event.type !== "end") {
+        await checkEndGame();
+    }
+}
+
+function applyChessGameEvent(event) {
+    if (event.type === "move") {
+        const piece = document.getElementById(event.source).querySelector("img");
+        const target = document.getElementById(event.target);
+        clearSquare(target);
+        target.appendChild(piece);
+    }
+    if (event.type === "promotion") {
+        const piece = document.getElementById(event.source).querySelector("img");
+        piece.setAttribute("src", piece.getAttribute("src").replace("pawn", event.piece));
+    }
+}
+
+function clearSquare(square) {
+    while (square.firstChild) {
+        square.removeChild(square.firstChild);
+    }
+}
+
+function closeEventsIfEnd(event) {
+    if (event.turn === "END") {
+        eventSource.close();
+    }
+}
+
+async function refreshAndDisplayBoard() {
     const titleText = document.getElementById("title");
     titleText.innerText = gameTitle;
 
+    const since = boardVersion;
+    const response = await getBoard(since);
+    if (response === undefined || response.status === 304) {
+        return;
+    }
+    const version = Number(response.headers.get("Chess-Board-Version"));
+    const squares = await response.json();
+    if (boardVersion !== null && version <= boardVersion) {
+        return;
+    }
+    if (since === null) {
+        clearBoard();
+    }
+    squares.forEach(displaySquare);
+    boardVersion = version;
+}
+
+function clearBoard() {
     const board = document.getElementsByClassName("chess-ui")[0].childNodes;
-    board.forEach(await function (value) {
-        if (value.hasChildNodes()) {
-            value.removeChild(document.getElementById("piece_img"));
-        }
-    })
+    board.forEach(clearSquare);
 }
 
-async function displayBoard() {
-    Array.from(await getBoard()).forEach(
-        function (element) {
-            let position = document.getElementById(element.position);
-            if (position.hasChildNodes()) {
-                position.removeChild(document.getElementById("piece_img"));
-            }
-            const imgTeg = document.createElement("img");
-            imgTeg.setAttribute("id", "piece_img");
-            imgTeg.setAttribute("class", "piece");
+function displaySquare(element) {
+    const square = document.getElementById(element.position);
+    clearSquare(square);
+    if (element.name === null) {
+        return;
+    }
+    const imgTeg = document.createElement("img");
+    imgTeg.setAttribute("id", "piece_img");
+    imgTeg.setAttribute("class", "piece");
 
-            const imgPath = `images/${element.color}_${element.name}.png`;
+    const imgPath = `images/${element.color}_${element.name}.png`;
 
-            imgTeg.setAttribute("src", imgPath);
-            document.getElementById(element.position).appendChild(imgTeg);
-        }
-    )
+    imgTeg.setAttribute("src", imgPath);
+    square.appendChild(imgTeg);
 }
 
-function getBoard() {
+function getBoard(since) {
     const request = {
         password: gamePassword
     }
-    return fetch(gameUri + "?password=" + gamePassword, {
+    const headers = {
+        'Content-Type': 'application/json;charset=utf-8'
+    }
+    let uri = gameUri + "?password=" + gamePassword;
+    if (since !== null) {
+        headers['If-None-Match'] = `"${since}"`;
+        uri += "&since=" + since;
+    }
+    return fetch(uri, {
         method: 'POST',
-        headers: {
-            'Content-Type': 'application/json;charset=utf-8'
-        },
+        headers: headers,
         body: JSON.stringify(request)
     })
-        .then(response => handlingException(response))
-        .then((response) => response.json())
+        .then(response => response.status === 304 ? response : handlingException(response))
         .catch(error => {
             alert(error.message);
             location.href = "/";
@@ -72,6 +144,7 @@ async function startChessGame() {
     }).then(response => handlingException(response))
         .then(function (response) {
             gameUri = response.headers.get('Location');
+            boardVersion = null;
         })
         .then(refreshAndDisplayBoard)
         .catch(error => {
@@ -102,7 +175,6 @@ async function promotionButton() {
         },
         body: JSON.stringify(promotion)
     }).then(response => handlingException(response))
-        .then(refreshAndDisplayBoard)
         .catch(error => {
             alert(error.message);
         });
@@ -120,18 +192,45 @@ function move(element) {
         }
         source = element.id;
         document.getElementById(source).style.backgroundColor = 'orange';
+        highlightMovablePositions(source);
         return;
     }
 
     if (source !== "" && target === "") {
         target = element.id;
         document.getElementById(source).style.backgroundColor = '';
+        clearMovablePositions();
         movePiece(source, target);
         source = "";
         target = "";
     }
 }
 
+function highlightMovablePositions(source) {
+    fetch(gameUri + "/moves?source=" + source)
+        .then(response => handlingException(response))
+        .then((response) => response.json())
+        .then(function (moves) {
+            if (document.getElementById(source).style.backgroundColor !== 'orange') {
+                return;
+            }
+            movablePositions = moves.map(move => move.target);
+            movablePositions.forEach(position => {
+                document.getElementById(position).style.backgroundColor = 'lightgreen';
+            });
+        })
+        .catch(error => {
+            alert(error.message);
+        });
+}
+
+function clearMovablePositions() {
+    movablePositions.forEach(position => {
+        document.getElementById(position).style.backgroundColor = '';
+    });
+    movablePositions = [];
+}
+
 function movePiece(source, target) {
     if (source === target) {
         return;
@@ -147,8 +246,6 @@ function movePiece(source, target) {
         },
         body: JSON.stringify(move)
     }).then(response => handlingException(response))
-        .then(refreshAndDisplayBoard)
-        .then(checkEndGame)
         .catch(error => {
             alert(error.message);
         });
@@ -0,0 +1,70 @@
+package chess.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeAll
+    void setUpDataSources() {
+        DataSource primary = createDatabase("jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1", "primary");
+        DataSource replica = createDatabase("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1", "replica");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private DataSource createDatabase(String url, String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists route (name varchar(10))");
+        template.update("delete from route");
+        template.update("insert into route (name) values (?)", name);
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본에서 조회")
+    void readOnlyTransactionUsesReplica() {
+        assertThat(readOnlyTransaction.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("읽기 쓰기 트랜잭션과 트랜잭션 밖의 조회는 원본에서 조회")
+    void readWriteTransactionUsesPrimary() {
+        assertThat(readWriteTransaction.execute(status -> currentDatabase())).isEqualTo("primary");
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션이라도 원본을 요청하면 원본에서 조회")
+    void onPrimaryInReadOnlyTransaction() {
+        String database = readOnlyTransaction.execute(
+                status -> ReplicaRoutingDataSource.onPrimary(this::currentDatabase));
+
+        assertThat(database).isEqualTo("primary");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from route", String.class);
+    }
+}
@@ -9,7 +9,13 @@ import chess.controller.dto.request.ChessGameRequest;
 import chess.controller.dto.request.PieceMoveRequest;
 import chess.controller.dto.request.PromotionRequest;
 import chess.dao.ChessGameDao;
+import chess.dao.MoveDao;
+import chess.dao.PieceDao;
 import chess.domain.ChessGame;
+import chess.domain.MoveRecord;
+import chess.domain.Position;
+import chess.domain.piece.PieceFactory;
+import chess.domain.state.Turn;
 import io.restassured.RestAssured;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +33,12 @@ class ChessGameControllerAdviceTest {
     @Autowired
     private ChessGameDao chessGameDao;
 
+    @Autowired
+    private PieceDao pieceDao;
+
+    @Autowired
+    private MoveDao moveDao;
+
     private long chessGameId;
 
     @LocalServerPort
@@ -115,4 +127,30 @@ class ChessGameControllerAdviceTest {
                 .statusCode(HttpStatus.BAD_REQUEST.value())
                 .body("message", containsString("비밀번호를 입력해 주세요."));
     }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 게임을 변경했다면 이동 시 409 응답 후 다시 불러와 이동")
+    void conflictByStaleVersion() {
+        pieceDao.savePieces(chessGameId, PieceFactory.createNewChessBoard());
+        RestAssured.given().log().all()
+                .when().get("chessgames/" + chessGameId + "/score")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value());
+        moveDao.save(chessGameId, MoveRecord.move(1, Position.from("b2"), Position.from("b3"), null, Turn.BLACK_TURN));
+
+        RestAssured.given().log().all()
+                .body(new PieceMoveRequest("a2", "a4"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().patch("chessgames/" + chessGameId + "/move")
+                .then().log().all()
+                .statusCode(HttpStatus.CONFLICT.value())
+                .body("message", is("다른 요청이 먼저 체스 게임을 변경했습니다."));
+
+        RestAssured.given().log().all()
+                .body(new PieceMoveRequest("a7", "a6"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().patch("chessgames/" + chessGameId + "/move")
+                .then().log().all()
+                .statusCode(HttpStatus.NO_CONTENT.value());
+    }
 }
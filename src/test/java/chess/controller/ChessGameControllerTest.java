@@ -1,5 +1,6 @@
 package chess.controller;
 
+import static chess.ChessGameFixture.createEndChessGame;
 import static chess.ChessGameFixture.createRunningChessGame;
 import static chess.domain.state.Turn.END;
 import static org.hamcrest.core.Is.is;
@@ -12,8 +13,11 @@ import chess.dao.ChessGameDao;
 import chess.dao.PieceDao;
 import chess.domain.ChessGame;
 import chess.domain.Position;
+import chess.domain.piece.Piece;
 import chess.domain.piece.PieceFactory;
 import io.restassured.RestAssured;
+import java.util.HashMap;
+import java.util.Map;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 
@@ -71,6 +76,43 @@ class ChessGameControllerTest {
                 .body("size()", is(1));
     }
 
+    @Test
+    @DisplayName("마지막으로 조회한 id 이후의 진행중인 체스 게임 반환")
+    void findChessGamesAfter() {
+        long chessGameId = chessGameDao.createChessGame(chessGame).getId();
+
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("chessgames?after=" + (chessGameId - 1) + "&limit=1&status=running")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", is(1))
+                .body("[0].id", is((int) chessGameId));
+    }
+
+    @Test
+    @DisplayName("체스 게임 전체 목록을 한 줄에 하나씩 내보내기")
+    void exportChessGames() {
+        long chessGameId = chessGameDao.createChessGame(chessGame).getId();
+
+        RestAssured.given().log().all()
+                .when().get("chessgames/export")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(MediaType.APPLICATION_NDJSON_VALUE)
+                .body(Matchers.containsString("{\"id\":" + chessGameId + ",\"title\":\"title\"}\n"));
+    }
+
+    @Test
+    @DisplayName("체스 게임 목록 조회 개수가 범위를 벗어나면 400 반환")
+    void findChessGamesWithInvalidLimit() {
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("chessgames?limit=101")
+                .then().log().all()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
     @Test
     @DisplayName("체스 게임 초기상태 일때 체스 보드 로딩")
     void loadChessGame() {
@@ -84,15 +126,57 @@ class ChessGameControllerTest {
                 .when().post("chessgames/" + chessGameId)
                 .then().log().all()
                 .statusCode(HttpStatus.OK.value())
+                .header(HttpHeaders.ETAG, "\"0\"")
                 .body("size()", is(32));
     }
 
+    @Test
+    @DisplayName("체스 보드의 ETag와 같은 If-None-Match로 로딩하면 304 응답")
+    void loadNotModifiedChessGame() {
+        long chessGameId = chessGameDao.createChessGame(chessGame)
+                .getId();
+        pieceDao.savePieces(chessGameId, PieceFactory.createNewChessBoard());
+
+        RestAssured.given().log().all()
+                .body(new ChessGamePasswordRequest("password"))
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("chessgames/" + chessGameId)
+                .then().log().all()
+                .statusCode(HttpStatus.NOT_MODIFIED.value())
+                .header(HttpHeaders.ETAG, "\"0\"");
+    }
+
+    @Test
+    @DisplayName("기준 버전 이후 바뀐 칸만 로딩")
+    void loadChangedChessGame() {
+        long chessGameId = chessGameDao.createChessGame(chessGame)
+                .getId();
+        pieceDao.savePieces(chessGameId, PieceFactory.createNewChessBoard());
+        RestAssured.given()
+                .body(new PieceMoveRequest("a2", "a4"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().patch("chessgames/" + chessGameId + "/move");
+
+        RestAssured.given().log().all()
+                .body(new ChessGamePasswordRequest("password"))
+                .header(HttpHeaders.IF_NONE_MATCH, "\"0\"")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().post("chessgames/" + chessGameId + "?since=0")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .header("Chess-Board-Version", "1")
+                .header(HttpHeaders.ETAG, Matchers.nullValue())
+                .body("size()", is(2))
+                .body("find { it.position == 'a4' }.name", is("pawn"))
+                .body("find { it.position == 'a2' }.name", Matchers.nullValue());
+    }
+
     @Test
     @DisplayName("체스 게임 삭제")
     void deleteChessGame() {
-        long chessGameId = chessGameDao.createChessGame(chessGame)
+        long chessGameId = chessGameDao.createChessGame(createEndChessGame())
                 .getId();
-        chessGameDao.changeChessGameTurn(chessGameId, END);
 
         RestAssured.given().log().all()
                 .body(new ChessGamePasswordRequest("password"))
@@ -117,16 +201,30 @@ class ChessGameControllerTest {
                 .statusCode(HttpStatus.NO_CONTENT.value());
     }
 
+    @Test
+    @DisplayName("이동할 수 없는 위치로 체스 기물 이동 시 400 응답")
+    void movePieceToUnreachableTarget() {
+        long chessGameId = chessGameDao.createChessGame(chessGame)
+                .getId();
+        pieceDao.savePieces(chessGameId, PieceFactory.createNewChessBoard());
+
+        RestAssured.given().log().all()
+                .body(new PieceMoveRequest("a2", "a5"))
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().patch("chessgames/" + chessGameId + "/move")
+                .then().log().all()
+                .statusCode(HttpStatus.BAD_REQUEST.value())
+                .body("message", is("움직일 수 없는 곳입니다."));
+    }
+
     @Test
     @DisplayName("체스 기물 프로모션")
     void promotionPiece() {
         long chessGameId = chessGameDao.createChessGame(chessGame)
                 .getId();
-        pieceDao.savePieces(chessGameId, PieceFactory.createNewChessBoard());
-        Position source = Position.from("a2");
-        Position target = Position.from("a8");
-        pieceDao.delete(chessGameId, target);
-        pieceDao.updatePiecePosition(chessGameId, source, target);
+        Map<Position, Piece> pieces = new HashMap<>(PieceFactory.createNewChessBoard());
+        pieces.put(Position.from("a8"), pieces.remove(Position.from("a2")));
+        pieceDao.savePieces(chessGameId, pieces);
 
         RestAssured.given().log().all()
                 .body(new PromotionRequest("Q"))
@@ -163,6 +261,21 @@ class ChessGameControllerTest {
                 .body("size()", is(2));
     }
 
+    @Test
+    @DisplayName("출발 위치의 이동 가능한 수 반환")
+    void movableMoves() {
+        long chessGameId = chessGameDao.createChessGame(chessGame)
+                .getId();
+        pieceDao.savePieces(chessGameId, PieceFactory.createNewChessBoard());
+
+        RestAssured.given().log().all()
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .when().get("chessgames/" + chessGameId + "/moves?source=a2")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .body("size()", is(2));
+    }
+
     @Test
     @DisplayName("게임이 아직 진행중 일때 게임 종료 여부 판별")
     void chessGameStatus() {
@@ -182,8 +295,9 @@ class ChessGameControllerTest {
     void chessGameWinner() {
         long chessGameId = chessGameDao.createChessGame(chessGame)
                 .getId();
-        pieceDao.savePieces(chessGameId, PieceFactory.createNewChessBoard());
-        pieceDao.delete(chessGameId, Position.from("e8"));
+        Map<Position, Piece> pieces = new HashMap<>(PieceFactory.createNewChessBoard());
+        pieces.remove(Position.from("e8"));
+        pieceDao.savePieces(chessGameId, pieces);
 
         RestAssured.given().log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
@@ -192,4 +306,50 @@ class ChessGameControllerTest {
                 .statusCode(HttpStatus.OK.value())
                 .body("winner", is("WHITE"));
     }
+
+    @Test
+    @DisplayName("종료된 게임의 이벤트 구독 시 현재 상태만 보내고 종료")
+    void subscribeEndedChessGameEvents() {
+        long chessGameId = chessGameDao.createChessGame(new ChessGame(END.name(), "title", "password"))
+                .getId();
+
+        RestAssured.given().log().all()
+                .accept(MediaType.TEXT_EVENT_STREAM_VALUE)
+                .queryParam("password", "password")
+                .when().get("chessgames/" + chessGameId + "/events")
+                .then().log().all()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(Matchers.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE))
+                .body(Matchers.containsString("event:sync"))
+                .body(Matchers.containsString("\"type\":\"sync\""))
+                .body(Matchers.containsString("\"turn\":\"END\""));
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 이벤트를 구독할 수 없음")
+    void subscribeEventsWithWrongPassword() {
+        long chessGameId = chessGameDao.createChessGame(chessGame)
+                .getId();
+
+        RestAssured.given().log().all()
+                .queryParam("password", "wrong")
+                .when().get("chessgames/" + chessGameId + "/events")
+                .then().log().all()
+                .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("없는 게임의 이벤트 구독 시 404 응답")
+    void subscribeNotFoundChessGameEvents() {
+        long chessGameId = chessGameDao.createChessGame(chessGame)
+                .getId();
+        chessGameDao.deleteChessGame(chessGame);
+
+        RestAssured.given().log().all()
+                .accept(MediaType.TEXT_EVENT_STREAM_VALUE)
+                .queryParam("password", "password")
+                .when().get("chessgames/" + chessGameId + "/events")
+                .then().log().all()
+                .statusCode(HttpStatus.NOT_FOUND.value());
+    }
 }
@@ -0,0 +1,50 @@
+package chess.controller;
+
+import static chess.domain.state.Turn.END;
+import static chess.domain.state.Turn.WHITE_TURN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.ChessGame;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.EmptyResultDataAccessException;
+
+class ChessGameEventBroadcasterTest {
+
+    private final ChessGameEventBroadcaster broadcaster = new ChessGameEventBroadcaster(new ObjectMapper(), 60_000,
+            1_000, 32);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    @DisplayName("진행 중인 게임을 구독하면 구독자로 등록")
+    void subscribe() {
+        broadcaster.subscribe(1L, () -> new ChessGame(1L, WHITE_TURN.name(), "title", "password", 3));
+
+        assertThat(broadcaster.subscriberCount(1L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료된 게임을 구독하면 구독자로 남기지 않음")
+    void subscribeEndedChessGame() {
+        broadcaster.subscribe(1L, () -> new ChessGame(1L, END.name(), "title", "password", 3));
+
+        assertThat(broadcaster.subscriberCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("게임을 찾지 못하면 구독자를 제거하고 예외를 전달")
+    void subscribeNotFoundChessGame() {
+        assertThatThrownBy(() -> broadcaster.subscribe(1L, () -> {
+            throw new EmptyResultDataAccessException(1);
+        })).isInstanceOf(EmptyResultDataAccessException.class);
+
+        assertThat(broadcaster.subscriberCount(1L)).isZero();
+    }
+}
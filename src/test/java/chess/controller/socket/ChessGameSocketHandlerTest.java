@@ -0,0 +1,121 @@
+package chess.controller.socket;
+
+import static chess.ChessGameFixture.createRunningChessGame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.dao.ChessGameDao;
+import chess.dao.PieceDao;
+import chess.domain.ChessGame;
+import chess.domain.MoveResult;
+import chess.domain.Position;
+import chess.domain.PromotionPiece;
+import chess.domain.piece.PieceFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class ChessGameSocketHandlerTest {
+
+    @Autowired
+    private ChessGameDao chessGameDao;
+
+    @Autowired
+    private PieceDao pieceDao;
+
+    @LocalServerPort
+    private int port;
+
+    private final BlockingQueue<ByteBuffer> frames = new LinkedBlockingQueue<>();
+    private ChessGame chessGame;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        chessGame = createRunningChessGame();
+        chessGameDao.deleteChessGame(chessGame);
+        long chessGameId = chessGameDao.createChessGame(chessGame)
+                .getId();
+        pieceDao.savePieces(chessGameId, PieceFactory.createNewChessBoard());
+
+        session = new StandardWebSocketClient().doHandshake(new BinaryWebSocketHandler() {
+            @Override
+            protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+                frames.add(message.getPayload());
+            }
+        }, "ws://localhost:" + port + "/chessgames/" + chessGameId + "/ws").get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        session.close();
+        chessGameDao.deleteChessGame(chessGame);
+    }
+
+    @Test
+    @DisplayName("접속하면 현재 버전을 보내고 이동 프레임을 받으면 기록된 이동을 보냄")
+    void move() throws Exception {
+        ByteBuffer sync = frames.poll(5, TimeUnit.SECONDS);
+
+        session.sendMessage(new BinaryMessage(MoveFrame.encode(Position.from("a2"), Position.from("a4"), null)));
+        ByteBuffer recorded = frames.poll(5, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(sync.get(0)).isEqualTo(ChessGameFrames.SYNC),
+                () -> assertThat(sync.getInt(3)).isZero(),
+                () -> assertThat(recorded.get(0)).isEqualTo(ChessGameFrames.MOVE),
+                () -> assertThat(recorded.getShort(1)).isEqualTo((short) MoveFrame.toWord(Position.from("a2"),
+                        Position.from("a4"), null)),
+                () -> assertThat(recorded.getInt(3)).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("움직일 수 없는 이동 프레임은 사유 코드와 메시지로 거절")
+    void rejectMove() throws Exception {
+        frames.poll(5, TimeUnit.SECONDS);
+
+        session.sendMessage(new BinaryMessage(MoveFrame.encode(Position.from("a2"), Position.from("a5"), null)));
+        ByteBuffer rejected = frames.poll(5, TimeUnit.SECONDS);
+        byte[] message = new byte[rejected.remaining() - 2];
+        rejected.position(2);
+        rejected.get(message);
+
+        assertAll(
+                () -> assertThat(rejected.get(0)).isEqualTo(ChessGameFrames.REJECTED),
+                () -> assertThat(rejected.get(1)).isEqualTo((byte) MoveResult.UNREACHABLE_TARGET.ordinal()),
+                () -> assertThat(new String(message, StandardCharsets.UTF_8)).isEqualTo("움직일 수 없는 곳입니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("프로모션할 수 없는 이동 프레임은 이동도 하지 않고 거절")
+    void rejectMoveWithImpossiblePromotion() throws Exception {
+        frames.poll(5, TimeUnit.SECONDS);
+
+        session.sendMessage(new BinaryMessage(
+                MoveFrame.encode(Position.from("a2"), Position.from("a3"), PromotionPiece.QUEEN)));
+        ByteBuffer rejected = frames.poll(5, TimeUnit.SECONDS);
+
+        assertAll(
+                () -> assertThat(rejected.get(0)).isEqualTo(ChessGameFrames.REJECTED),
+                () -> assertThat(rejected.get(1)).isEqualTo(ChessGameFrames.OTHER_REASON),
+                () -> assertThat(frames.poll(500, TimeUnit.MILLISECONDS)).isNull()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package chess.controller.socket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.Position;
+import chess.domain.PromotionPiece;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoveFrameTest {
+
+    @Test
+    @DisplayName("출발, 도착 위치와 프로모션 기물을 2바이트로 변환 후 복원")
+    void encodeAndDecode() {
+        byte[] frame = MoveFrame.encode(Position.from("a7"), Position.from("b8"), PromotionPiece.KNIGHT);
+        MoveFrame moveFrame = MoveFrame.decode(ByteBuffer.wrap(frame));
+
+        assertAll(
+                () -> assertThat(frame).hasSize(2),
+                () -> assertThat(moveFrame.getSource()).isEqualTo(Position.from("a7")),
+                () -> assertThat(moveFrame.getTarget()).isEqualTo(Position.from("b8")),
+                () -> assertThat(moveFrame.getPromotionPiece()).isEqualTo(PromotionPiece.KNIGHT)
+        );
+    }
+
+    @Test
+    @DisplayName("프로모션 자리가 0이면 프로모션 없는 이동")
+    void decodeWithoutPromotion() {
+        MoveFrame moveFrame = MoveFrame.decode(ByteBuffer.wrap(
+                MoveFrame.encode(Position.from("h8"), Position.from("a1"), null)));
+
+        assertAll(
+                () -> assertThat(moveFrame.getSource()).isEqualTo(Position.from("h8")),
+                () -> assertThat(moveFrame.getTarget()).isEqualTo(Position.from("a1")),
+                () -> assertThat(moveFrame.hasPromotion()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("출발과 도착 위치가 같고 프로모션 기물이 있으면 프로모션만 진행")
+    void promotionOnly() {
+        MoveFrame moveFrame = MoveFrame.decode(ByteBuffer.wrap(
+                MoveFrame.encode(Position.from("a8"), Position.from("a8"), PromotionPiece.QUEEN)));
+
+        assertThat(moveFrame.isPromotionOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("2바이트가 아닌 프레임은 예외 발생")
+    void decodeInvalidLength() {
+        assertThatThrownBy(() -> MoveFrame.decode(ByteBuffer.wrap(new byte[]{1, 2, 3})))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이동 프레임은 2바이트입니다.");
+    }
+
+    @Test
+    @DisplayName("없는 프로모션 기물 번호는 예외 발생")
+    void decodeInvalidPromotion() {
+        assertThatThrownBy(() -> MoveFrame.decode(ByteBuffer.wrap(new byte[]{0, 0x0F})))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("불가능한 프로모션 기물 이름입니다.");
+    }
+}
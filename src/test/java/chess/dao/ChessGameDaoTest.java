@@ -1,13 +1,19 @@
 package chess.dao;
 
 import static chess.ChessGameFixture.createRunningChessGame;
+import static chess.domain.state.Turn.BLACK_TURN;
 import static chess.domain.state.Turn.END;
 import static chess.domain.state.Turn.WHITE_TURN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 import chess.domain.ChessGame;
+import chess.domain.ChessGameStatus;
+import chess.domain.ChessGameSummary;
+import java.util.ArrayList;
+import java.util.List;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -53,32 +59,54 @@ class ChessGameDaoTest {
     }
 
     @Test
-    @DisplayName("저장되어 있는 모든 체스 게임 반환")
-    void findAllChessGame() {
-        ChessGame chessGame = createRunningChessGame();
-        ChessGame otherChessGame = new ChessGame(WHITE_TURN.name(), "title2", "password2");
-        chessGameDao.createChessGame(chessGame);
-        chessGameDao.createChessGame(otherChessGame);
-
-        assertThat(chessGameDao.findAllChessGame()).hasSize(2);
+    @DisplayName("마지막으로 조회한 id 이후의 체스 게임을 개수만큼 반환")
+    void findChessGamesAfter() {
+        long firstId = chessGameDao.createChessGame(new ChessGame(WHITE_TURN.name(), "first", "password")).getId();
+        long secondId = chessGameDao.createChessGame(new ChessGame(WHITE_TURN.name(), "second", "password")).getId();
+        long thirdId = chessGameDao.createChessGame(new ChessGame(WHITE_TURN.name(), "third", "password")).getId();
+
+        assertAll(
+                () -> assertThat(chessGameDao.findChessGames(0, 2)).containsExactly(
+                        new ChessGameSummary(firstId, "first"), new ChessGameSummary(secondId, "second")),
+                () -> assertThat(chessGameDao.findChessGames(secondId, 2)).containsExactly(
+                        new ChessGameSummary(thirdId, "third"))
+        );
     }
 
     @Test
-    @DisplayName("id 값을 통해서 체스 게임 반환")
-    void findChessGame() {
-        ChessGame chessGame = createRunningChessGame();
-        ChessGame savedChessGame = chessGameDao.createChessGame(chessGame);
+    @DisplayName("저장되어 있는 모든 체스 게임을 id 순서로 하나씩 전달")
+    void forEachChessGame() {
+        long firstId = chessGameDao.createChessGame(new ChessGame(WHITE_TURN.name(), "first", "password")).getId();
+        long secondId = chessGameDao.createChessGame(new ChessGame(END.name(), "second", "password")).getId();
+        List<ChessGameSummary> chessGameSummaries = new ArrayList<>();
 
-        assertThat(chessGameDao.findChessGame(savedChessGame.getId())).isEqualTo(savedChessGame);
+        chessGameDao.forEachChessGame(chessGameSummaries::add);
+
+        assertThat(chessGameSummaries).containsExactly(
+                new ChessGameSummary(firstId, "first"), new ChessGameSummary(secondId, "second"));
+    }
+
+    @Test
+    @DisplayName("게임 상태로 체스 게임 목록 필터링")
+    void findChessGamesByStatus() {
+        long runningId = chessGameDao.createChessGame(new ChessGame(BLACK_TURN.name(), "running", "password")).getId();
+        long endId = chessGameDao.createChessGame(new ChessGame(END.name(), "end", "password")).getId();
+
+        assertAll(
+                () -> assertThat(chessGameDao.findChessGames(0, 10, ChessGameStatus.RUNNING)).containsExactly(
+                        new ChessGameSummary(runningId, "running")),
+                () -> assertThat(chessGameDao.findChessGames(0, 10, ChessGameStatus.END)).containsExactly(
+                        new ChessGameSummary(endId, "end"))
+        );
     }
 
     @Test
-    @DisplayName("현재 게임 상태 변경")
-    void changeChessGameTurn() {
+    @DisplayName("id 값을 통해서 체스 게임 반환")
+    void findChessGame() {
         ChessGame chessGame = createRunningChessGame();
         ChessGame savedChessGame = chessGameDao.createChessGame(chessGame);
 
-        assertThat(chessGameDao.changeChessGameTurn(savedChessGame.getId(), END)).isEqualTo(1);
+        assertThat(chessGameDao.findChessGame(savedChessGame.getId())).isEqualTo(savedChessGame);
     }
 
     @Test
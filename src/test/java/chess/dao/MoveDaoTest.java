@@ -0,0 +1,74 @@
+package chess.dao;
+
+import static chess.ChessGameFixture.createRunningChessGame;
+import static chess.domain.state.Turn.BLACK_TURN;
+import static chess.domain.state.Turn.WHITE_TURN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.ChessGame;
+import chess.domain.MoveRecord;
+import chess.domain.Position;
+import chess.domain.PromotionPiece;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@JdbcTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MoveDaoTest {
+
+    private MoveDao moveDao;
+    private ChessGameDao chessGameDao;
+    private long chessGameId;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void setUpDao() {
+        moveDao = new MoveDao(jdbcTemplate);
+        chessGameDao = new ChessGameDao(jdbcTemplate, dataSource);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ChessGame chessGame = createRunningChessGame();
+        ChessGame savedChessGame = chessGameDao.createChessGame(chessGame);
+        chessGameId = savedChessGame.getId();
+    }
+
+    @Test
+    @DisplayName("기보 저장 후 지정한 수 이후의 기보를 순서대로 반환")
+    void findMoveRecords() {
+        MoveRecord first = new MoveRecord(1, Position.from("a7"), Position.from("b8"), null, "knight", WHITE_TURN);
+        MoveRecord second = MoveRecord.promotion(2, Position.from("b8"), PromotionPiece.QUEEN, BLACK_TURN);
+        MoveRecord third = MoveRecord.end(3);
+        moveDao.save(chessGameId, third);
+        moveDao.save(chessGameId, first);
+        moveDao.save(chessGameId, second);
+
+        assertThat(moveDao.findMoveRecords(chessGameId, 1)).containsExactly(second, third);
+    }
+
+    @Test
+    @DisplayName("같은 수의 기보를 중복 저장 시 예외발생")
+    void saveDuplicatePly() {
+        MoveRecord moveRecord = MoveRecord.move(1, Position.from("a2"), Position.from("a3"), null, BLACK_TURN);
+        moveDao.save(chessGameId, moveRecord);
+
+        assertThatThrownBy(() -> moveDao.save(chessGameId, moveRecord))
+                .isInstanceOf(OptimisticLockingFailureException.class)
+                .hasMessage("다른 요청이 먼저 체스 게임을 변경했습니다.");
+    }
+}
@@ -1,16 +1,19 @@
 package chess.dao;
 
 import static chess.ChessGameFixture.createRunningChessGame;
+import static chess.domain.piece.Piece.createBlackPiece;
+import static chess.domain.piece.Piece.createWhitePiece;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import chess.domain.ChessBoard;
 import chess.domain.ChessGame;
-import chess.domain.Color;
 import chess.domain.Position;
 import chess.domain.piece.Piece;
-import chess.domain.piece.pawn.Pawn;
+import chess.domain.piece.PieceFactory;
 import chess.domain.piece.single.King;
-import chess.domain.piece.single.Knight;
+import chess.domain.state.Turn;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeAll;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 @JdbcTest
@@ -52,8 +56,8 @@ class PieceDaoTest {
     @Test
     @DisplayName("체스 기물 정보 저장")
     void savePieces() {
-        Map<Position, Piece> pieces = Map.of(Position.of('a', '1'), new Piece(Color.WHITE, new King()),
-                Position.of('a', '2'), new Piece(Color.BLACK, new King()));
+        Map<Position, Piece> pieces = Map.of(Position.of('a', '1'), createWhitePiece(new King()),
+                Position.of('a', '2'), createBlackPiece(new King()));
 
         assertThat(pieceDao.savePieces(chessGameId, pieces)).isEqualTo(2);
     }
@@ -61,38 +65,60 @@ class PieceDaoTest {
     @Test
     @DisplayName("전체 피스 조회")
     void findAllPieces() {
-        pieceDao.savePieces(chessGameId, Map.of(Position.of('a', '1'), new Piece(Color.WHITE, new King()),
-                Position.of('a', '2'), new Piece(Color.BLACK, new King())));
+        pieceDao.savePieces(chessGameId, Map.of(Position.of('a', '1'), createWhitePiece(new King()),
+                Position.of('a', '2'), createBlackPiece(new King())));
         ChessBoard chessBoard = pieceDao.findChessBoardByChessGameId(chessGameId);
 
         assertThat(chessBoard.getPieces()).hasSize(2);
     }
 
     @Test
-    @DisplayName("피스 위치 업데이트")
-    void updatePiecePosition() {
-        Position source = Position.from("a1");
-        Position target = Position.from("a2");
-        pieceDao.savePieces(chessGameId, Map.of(source, new Piece(Color.WHITE, new King())));
+    @DisplayName("압축한 체스판 스냅샷 저장 후 조회")
+    void saveSnapshot() {
+        Map<Position, Piece> pieces = PieceFactory.createNewChessBoard();
 
-        assertThat(pieceDao.updatePiecePosition(chessGameId, source, target)).isEqualTo(1);
+        pieceDao.saveSnapshot(chessGameId, pieces, Turn.BLACK_TURN, 3);
+        ChessBoard chessBoard = pieceDao.findChessBoardByChessGameId(chessGameId);
+
+        assertAll(
+                () -> assertThat(chessBoard.getPieces()).hasSize(32),
+                () -> assertThat(chessBoard.pieceByPosition(Position.from("d8")).name()).isEqualTo("queen"),
+                () -> assertThat(pieceDao.findChessBoardFromPieces(chessGameId).getPieces()).isEmpty(),
+                () -> assertThat(chessGameDao.findChessGame(chessGameId).getVersion()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("저장된 버전보다 오래된 스냅샷은 저장하지 않음")
+    void saveStaleSnapshot() {
+        pieceDao.saveSnapshot(chessGameId, PieceFactory.createNewChessBoard(), Turn.BLACK_TURN, 3);
+
+        int updated = pieceDao.saveSnapshot(chessGameId, Map.of(), Turn.WHITE_TURN, 2);
+
+        assertAll(
+                () -> assertThat(updated).isZero(),
+                () -> assertThat(pieceDao.findChessBoardByChessGameId(chessGameId).getPieces()).hasSize(32),
+                () -> assertThat(chessGameDao.findChessGame(chessGameId).getVersion()).isEqualTo(3)
+        );
     }
 
     @Test
-    @DisplayName("피스 이동 규칙 업데이트")
-    void updatePieceRule() {
-        Position source = Position.from("a1");
-        pieceDao.savePieces(chessGameId, Map.of(source, new Piece(Color.WHITE, new Pawn(Color.WHITE))));
+    @DisplayName("피스 정보를 변경하면 스냅샷 대신 피스 정보로 체스판 조회")
+    void findChessBoardFromPiecesAfterPieceChanged() {
+        pieceDao.saveSnapshot(chessGameId, PieceFactory.createNewChessBoard(), Turn.WHITE_TURN, 0);
+
+        pieceDao.savePieces(chessGameId, Map.of(Position.of('a', '1'), createWhitePiece(new King())));
 
-        assertThat(pieceDao.updatePieceRule(chessGameId, source, new Knight())).isEqualTo(1);
+        assertThat(pieceDao.findChessBoardByChessGameId(chessGameId).getPieces()).hasSize(1);
     }
 
     @Test
-    @DisplayName("피스 삭제")
-    void deletePiece() {
-        Position source = Position.from("a1");
-        pieceDao.savePieces(chessGameId, Map.of(source, new Piece(Color.WHITE, new Pawn(Color.WHITE))));
+    @DisplayName("같은 위치에 피스를 중복 저장 시 예외발생")
+    void savePiecesOnSameSquare() {
+        Position position = Position.from("a1");
+        pieceDao.savePieces(chessGameId, Map.of(position, createWhitePiece(new King())));
 
-        assertThat(pieceDao.delete(chessGameId, source)).isEqualTo(1);
+        assertThatThrownBy(() -> pieceDao.savePieces(chessGameId, Map.of(position, createBlackPiece(new King()))))
+                .isInstanceOf(DuplicateKeyException.class);
     }
 }
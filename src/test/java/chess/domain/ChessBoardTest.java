@@ -15,6 +15,7 @@ import chess.domain.piece.multiple.Rook;
 import chess.domain.piece.pawn.Pawn;
 import chess.domain.piece.single.King;
 import chess.domain.piece.single.Knight;
+import chess.domain.state.Turn;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -36,32 +37,48 @@ class ChessBoardTest {
     }
 
     @Test
-    @DisplayName("게임 종료 후 기물 이동 시 예외발생")
+    @DisplayName("게임 종료 후 기물 이동 시 이동 불가")
     void movePieceException() {
         Position position = Position.of('a', '1');
         Position target = Position.of('a', '2');
         ChessBoard chessBoard = new ChessBoard(Map.of(position, createWhitePiece(new King())));
 
-        assertThatThrownBy(() -> chessBoard.movePiece(position, target, WHITE))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("게임이 종료되어 기물을 움직일 수 없습니다.");
+        assertThat(chessBoard.movePiece(position, target, WHITE)).isEqualTo(MoveResult.FINISHED_GAME);
     }
 
     @Test
-    @DisplayName("상대 진영의 기물 이동 시 예외발생")
+    @DisplayName("상대 진영의 기물 이동 시 이동 불가")
     void moveOtherTeamPieceException() {
         Position position = Position.of('a', '1');
         Position target = Position.of('a', '2');
         ChessBoard chessBoard = new ChessBoard(Map.of(position, createWhitePiece(new King()),
                 Position.of('e', '8'), createBlackPiece(new King())));
 
-        assertThatThrownBy(() -> chessBoard.movePiece(position, target, BLACK))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("상대 진영의 기물을 움직일 수 없습니다.");
+        assertThat(chessBoard.movePiece(position, target, BLACK)).isEqualTo(MoveResult.OPPONENT_PIECE);
+    }
+
+    @Test
+    @DisplayName("빈 위치의 기물 이동 시 이동 불가")
+    void moveEmptySourceException() {
+        ChessBoard chessBoard = new ChessBoard(PieceFactory.createNewChessBoard());
+
+        assertThat(chessBoard.movePiece(Position.from("a3"), Position.from("a4"), WHITE))
+                .isEqualTo(MoveResult.EMPTY_SOURCE);
     }
 
     @Test
-    @DisplayName("동일한 색상의 기물 위치로 이동하려할 때 예외발생")
+    @DisplayName("이동할 수 없는 위치로 이동 시 기물이 그대로 남음")
+    void moveUnreachableTarget() {
+        ChessBoard chessBoard = new ChessBoard(PieceFactory.createNewChessBoard());
+        Map<Position, Piece> pieces = chessBoard.getPieces();
+
+        assertThat(chessBoard.movePiece(Position.from("d1"), Position.from("d3"), WHITE))
+                .isEqualTo(MoveResult.UNREACHABLE_TARGET);
+        assertThat(chessBoard.getPieces()).isEqualTo(pieces);
+    }
+
+    @Test
+    @DisplayName("동일한 색상의 기물 위치로 이동하려할 때 이동 불가")
     void moveSamTeamPieceException() {
         Position position = Position.of('a', '1');
         Position target = Position.of('a', '2');
@@ -70,9 +87,7 @@ class ChessBoardTest {
                 target, createWhitePiece(new Pawn(WHITE))
         ));
 
-        assertThatThrownBy(() -> chessBoard.movePiece(position, target, WHITE))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("같은 색의 기물 위치로는 이동할 수 없습니다.");
+        assertThat(chessBoard.movePiece(position, target, WHITE)).isEqualTo(MoveResult.SAME_COLOR_TARGET);
     }
 
     @Test
@@ -145,6 +160,34 @@ class ChessBoardTest {
         assertThat(chessBoard.calculateScoreStatus()).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("기물을 잡으면 점수 갱신")
+    void calculateScoreStatusAfterCapture() {
+        ChessBoard chessBoard = new ChessBoard(Map.of(
+                Position.of('a', '2'), createWhitePiece(new Pawn(WHITE)),
+                Position.of('b', '2'), createWhitePiece(new Pawn(WHITE)),
+                Position.of('e', '1'), createWhitePiece(new King()),
+                Position.of('a', '3'), createBlackPiece(new Knight()),
+                Position.of('e', '8'), createBlackPiece(new King())
+        ));
+
+        chessBoard.movePiece(Position.of('b', '2'), Position.of('a', '3'), WHITE);
+
+        assertThat(chessBoard.calculateScoreStatus()).isEqualTo(Map.of(WHITE, 1.0, BLACK, 0.0));
+    }
+
+    @Test
+    @DisplayName("프로모션하면 기물과 점수 갱신")
+    void promotionChangesPieceAndScore() {
+        Position position = Position.of('a', '8');
+        ChessBoard chessBoard = new ChessBoard(Map.of(position, createWhitePiece(new Pawn(WHITE))));
+
+        chessBoard.promotion(WHITE, new Queen());
+
+        assertThat(chessBoard.pieceByPosition(position).name()).isEqualTo("queen");
+        assertThat(chessBoard.calculateScoreStatus()).isEqualTo(Map.of(WHITE, 9.0, BLACK, 0.0));
+    }
+
     @ParameterizedTest
     @MethodSource("isFinished")
     @DisplayName("게임이 종료되었는지 확인")
@@ -187,4 +230,55 @@ class ChessBoardTest {
         ChessBoard chessBoard = new ChessBoard(Map.of(Position.of('e', '1'), createWhitePiece(new King())));
         assertThat(chessBoard.winner()).isEqualTo(WHITE);
     }
+
+    @Test
+    @DisplayName("다른 순서로 같은 배치에 도달하면 같은 해시값 반환")
+    void hashByTransposition() {
+        ChessBoard first = new ChessBoard(PieceFactory.createNewChessBoard());
+        first.movePiece(Position.from("g1"), Position.from("f3"), WHITE);
+        first.movePiece(Position.from("b1"), Position.from("c3"), WHITE);
+
+        ChessBoard second = new ChessBoard(PieceFactory.createNewChessBoard());
+        second.movePiece(Position.from("b1"), Position.from("c3"), WHITE);
+        second.movePiece(Position.from("g1"), Position.from("f3"), WHITE);
+
+        assertThat(first.hash()).isEqualTo(second.hash());
+    }
+
+    @Test
+    @DisplayName("기물을 움직였다 되돌리면 원래 해시값 반환")
+    void hashAfterMoveBack() {
+        ChessBoard chessBoard = new ChessBoard(PieceFactory.createNewChessBoard());
+        long initialHash = chessBoard.hash();
+
+        chessBoard.movePiece(Position.from("g1"), Position.from("f3"), WHITE);
+        long movedHash = chessBoard.hash();
+        chessBoard.movePiece(Position.from("f3"), Position.from("g1"), WHITE);
+
+        assertThat(movedHash).isNotEqualTo(initialHash);
+        assertThat(chessBoard.hash()).isEqualTo(initialHash);
+    }
+
+    @Test
+    @DisplayName("기물을 잡거나 프로모션한 뒤의 해시값은 새로 만든 체스판과 동일")
+    void hashAfterCaptureAndPromotion() {
+        ChessBoard chessBoard = new ChessBoard(Map.of(
+                Position.of('a', '7'), createWhitePiece(new Pawn(WHITE)),
+                Position.of('b', '8'), createBlackPiece(new Knight()),
+                Position.of('e', '1'), createWhitePiece(new King()),
+                Position.of('e', '8'), createBlackPiece(new King())
+        ));
+
+        chessBoard.movePiece(Position.of('a', '7'), Position.of('b', '8'), WHITE);
+        chessBoard.promotion(WHITE, new Queen());
+
+        assertThat(chessBoard.hash()).isEqualTo(new ChessBoard(chessBoard.getPieces()).hash());
+    }
+
+    @Test
+    @DisplayName("같은 배치라도 차례가 다르면 다른 해시값 반환")
+    void hashByTurn() {
+        ChessBoard chessBoard = new ChessBoard(PieceFactory.createNewChessBoard());
+        assertThat(chessBoard.hash(Turn.WHITE_TURN)).isNotEqualTo(chessBoard.hash(Turn.BLACK_TURN));
+    }
 }
@@ -0,0 +1,79 @@
+package chess.domain;
+
+import static chess.domain.Color.BLACK;
+import static chess.domain.Color.WHITE;
+import static chess.domain.piece.Piece.createBlackPiece;
+import static chess.domain.piece.Piece.createWhitePiece;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.piece.PieceFactory;
+import chess.domain.piece.multiple.Rook;
+import chess.domain.piece.single.King;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoveGeneratorTest {
+
+    @Test
+    @DisplayName("초기 체스판에서 이동 가능한 수 반환")
+    void legalMovesOfNewChessBoard() {
+        MoveGenerator moveGenerator = new MoveGenerator(new ChessBoard(PieceFactory.createNewChessBoard()));
+
+        assertThat(moveGenerator.legalMoves(WHITE)).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("출발 위치를 지정하면 해당 기물의 이동 가능한 수만 반환")
+    void legalMovesBySource() {
+        MoveGenerator moveGenerator = new MoveGenerator(new ChessBoard(PieceFactory.createNewChessBoard()));
+
+        assertThat(moveGenerator.legalMoves(WHITE, Position.from("b1"))).containsExactlyInAnyOrder(
+                new Move(Position.from("b1"), Position.from("a3")),
+                new Move(Position.from("b1"), Position.from("c3")));
+    }
+
+    @Test
+    @DisplayName("상대 진영의 기물 위치를 지정하면 빈 목록 반환")
+    void legalMovesByOtherColorSource() {
+        MoveGenerator moveGenerator = new MoveGenerator(new ChessBoard(PieceFactory.createNewChessBoard()));
+
+        assertThat(moveGenerator.legalMoves(WHITE, Position.from("b8"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("킹이 공격받는 위치로 이동하는 수 제외")
+    void legalMovesExcludeAttackedKing() {
+        ChessBoard chessBoard = new ChessBoard(Map.of(
+                Position.from("a1"), createWhitePiece(new King()),
+                Position.from("b8"), createBlackPiece(new Rook()),
+                Position.from("h8"), createBlackPiece(new King())
+        ));
+        MoveGenerator moveGenerator = new MoveGenerator(chessBoard);
+
+        assertThat(moveGenerator.pseudoLegalMoves(WHITE)).hasSize(3);
+        assertThat(moveGenerator.legalMoves(WHITE)).containsExactly(
+                new Move(Position.from("a1"), Position.from("a2")));
+    }
+
+    @Test
+    @DisplayName("킹이 공격받는지 확인")
+    void isKingAttacked() {
+        ChessBoard chessBoard = new ChessBoard(Map.of(
+                Position.from("a1"), createWhitePiece(new King()),
+                Position.from("a8"), createBlackPiece(new Rook()),
+                Position.from("h8"), createBlackPiece(new King())
+        ));
+
+        assertThat(new MoveGenerator(chessBoard).isKingAttacked(WHITE)).isTrue();
+        assertThat(new MoveGenerator(chessBoard).isKingAttacked(BLACK)).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료된 게임은 이동 가능한 수가 없음")
+    void legalMovesOfFinishedGame() {
+        ChessBoard chessBoard = new ChessBoard(Map.of(Position.from("a1"), createWhitePiece(new King())));
+
+        assertThat(new MoveGenerator(chessBoard).legalMoves(WHITE)).isEmpty();
+    }
+}
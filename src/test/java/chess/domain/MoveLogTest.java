@@ -0,0 +1,45 @@
+package chess.domain;
+
+import static chess.domain.state.Turn.BLACK_TURN;
+import static chess.domain.state.Turn.WHITE_TURN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoveLogTest {
+
+    @Test
+    @DisplayName("압축한 기보 로그를 풀면 같은 기보를 반환")
+    void compressAndDecompress() {
+        List<MoveRecord> moveRecords = List.of(
+                new MoveRecord(1, Position.from("a2"), Position.from("a4"), null, null, BLACK_TURN),
+                new MoveRecord(2, Position.from("b8"), Position.from("a6"), null, "pawn", WHITE_TURN),
+                MoveRecord.promotion(3, Position.from("a8"), PromotionPiece.QUEEN, BLACK_TURN),
+                MoveRecord.end(4)
+        );
+
+        assertThat(MoveLog.decompress(MoveLog.compress(moveRecords))).isEqualTo(moveRecords);
+    }
+
+    @Test
+    @DisplayName("1수부터 시작하지 않는 기보도 순번을 유지")
+    void compressMoveRecordsStartingAfterFirstPly() {
+        List<MoveRecord> moveRecords = List.of(
+                new MoveRecord(41, Position.from("a2"), Position.from("a4"), null, null, BLACK_TURN),
+                MoveRecord.end(43)
+        );
+
+        assertThat(MoveLog.decompress(MoveLog.compress(moveRecords))).isEqualTo(moveRecords);
+    }
+
+    @Test
+    @DisplayName("올바르지 않은 기보 로그를 풀면 예외발생")
+    void decompressInvalidMoveLog() {
+        assertThatThrownBy(() -> MoveLog.decompress(new byte[]{1, 2, 3}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("기보 로그가 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,58 @@
+package chess.domain;
+
+import static chess.domain.Color.BLACK;
+import static chess.domain.Color.WHITE;
+import static chess.domain.piece.Piece.createBlackPiece;
+import static chess.domain.piece.Piece.createWhitePiece;
+import static org.assertj.core.api.Assertions.assertThat;
+import static chess.domain.state.Turn.BLACK_TURN;
+import static chess.domain.state.Turn.WHITE_TURN;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.piece.Piece;
+import chess.domain.piece.pawn.Pawn;
+import chess.domain.piece.single.King;
+import chess.domain.piece.single.Knight;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MoveRecordTest {
+
+    @Test
+    @DisplayName("잡은 기물의 이름을 기록")
+    void moveWithCapturedPiece() {
+        MoveRecord moveRecord = MoveRecord.move(1, Position.from("a7"), Position.from("b8"),
+                createBlackPiece(new Knight()), WHITE_TURN);
+
+        assertAll(
+                () -> assertThat(moveRecord.capturedPiece()).isEqualTo("knight"),
+                () -> assertThat(moveRecord.isPromotion()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("기보를 순서대로 재생하면 같은 체스판 반환")
+    void replay() {
+        ChessBoard chessBoard = new ChessBoard(Map.of(
+                Position.from("a7"), createWhitePiece(new Pawn(WHITE)),
+                Position.from("b8"), createBlackPiece(new Knight()),
+                Position.from("e1"), createWhitePiece(new King()),
+                Position.from("e8"), createBlackPiece(new King())
+        ));
+
+        MoveRecord.move(1, Position.from("a7"), Position.from("b8"), createBlackPiece(new Knight()), WHITE_TURN)
+                .replay(chessBoard);
+        MoveRecord.promotion(2, Position.from("b8"), PromotionPiece.QUEEN, BLACK_TURN).replay(chessBoard);
+        MoveRecord.move(3, Position.from("e8"), Position.from("d8"), null, WHITE_TURN).replay(chessBoard);
+        MoveRecord.end(4).replay(chessBoard);
+
+        Piece promotedPiece = chessBoard.pieceByPosition(Position.from("b8"));
+        assertAll(
+                () -> assertThat(promotedPiece.name()).isEqualTo("queen"),
+                () -> assertThat(promotedPiece.color()).isEqualTo(WHITE),
+                () -> assertThat(chessBoard.pieceByPosition(Position.from("d8")).color()).isEqualTo(BLACK),
+                () -> assertThat(chessBoard.getPieces()).hasSize(3)
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package chess.domain;
+
+import static chess.domain.Color.WHITE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chess.domain.piece.PieceFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class PerftTest {
+
+    @ParameterizedTest
+    @CsvSource(value = {"1,20", "2,400", "3,8902"})
+    @DisplayName("초기 체스판에서 깊이별 노드 수 계산")
+    void count(int depth, long expected) {
+        Perft perft = new Perft(new ChessBoard(PieceFactory.createNewChessBoard()));
+
+        assertThat(perft.count(WHITE, depth)).isEqualTo(expected);
+    }
+}
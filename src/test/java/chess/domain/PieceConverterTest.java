@@ -1,9 +1,13 @@
 package chess.domain;
 
+import static chess.domain.Color.BLACK;
 import static chess.domain.Color.WHITE;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import chess.domain.piece.Piece;
+import chess.domain.piece.pawn.Pawn;
+import chess.domain.piece.single.King;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -15,4 +19,35 @@ class PieceConverterTest {
         Piece piece = PieceConverter.parseToPiece("king", WHITE);
         assertThat(piece).isInstanceOf(Piece.class);
     }
+
+    @Test
+    @DisplayName("같은 이름과 color의 Piece는 같은 인스턴스를 반환")
+    void parseToSamePiece() {
+        assertThat(PieceConverter.parseToPiece("pawn", WHITE)).isSameAs(PieceConverter.PAWN.pieceOf(WHITE));
+    }
+
+    @Test
+    @DisplayName("Piece 생성 메서드도 같은 인스턴스를 반환")
+    void createCanonicalPiece() {
+        assertThat(Piece.createWhitePiece(new King())).isSameAs(PieceConverter.KING.pieceOf(WHITE));
+        assertThat(Piece.createBlackPiece(new Pawn(BLACK))).isSameAs(PieceConverter.PAWN.pieceOf(BLACK));
+    }
+
+    @Test
+    @DisplayName("색이 다른 폰은 서로 다른 인스턴스를 반환")
+    void pawnByColor() {
+        assertThat(PieceConverter.PAWN.pieceOf(WHITE)).isNotSameAs(PieceConverter.PAWN.pieceOf(BLACK));
+    }
+
+    @Test
+    @DisplayName("이동한 Piece는 같은 인스턴스를 유지")
+    void moveKeepsSamePiece() {
+        Piece knight = PieceConverter.KNIGHT.pieceOf(WHITE);
+        ChessBoard chessBoard = new ChessBoard(Map.of(Position.from("b1"), knight,
+                Position.from("e8"), PieceConverter.KING.pieceOf(BLACK),
+                Position.from("e1"), PieceConverter.KING.pieceOf(WHITE)));
+        chessBoard.movePiece(Position.from("b1"), Position.from("c3"), WHITE);
+
+        assertThat(chessBoard.pieceByPosition(Position.from("c3"))).isSameAs(knight);
+    }
 }
@@ -91,4 +91,28 @@ class PositionTest {
         Position position = Position.of(column, row);
         assertThat(position.isPromotionPosition(BLACK)).isEqualTo(expected);
     }
+
+    @ParameterizedTest
+    @CsvSource(value = {"a,1,0", "h,1,7", "a,2,8", "h,8,63"})
+    @DisplayName("위치의 index 반환")
+    void index(char column, char row, int expected) {
+        assertThat(Position.of(column, row).index()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("index로 같은 Position 반환")
+    void fromIndex() {
+        Position position = Position.of('c', '5');
+
+        assertThat(Position.fromIndex(position.index())).isSameAs(position);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 64})
+    @DisplayName("범위 외의 index 입력시 예외발생")
+    void fromIndexException(int index) {
+        assertThatThrownBy(() -> Position.fromIndex(index))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Position범위에 맞지 않는 입력값입니다.");
+    }
 }
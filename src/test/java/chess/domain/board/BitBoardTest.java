@@ -0,0 +1,88 @@
+package chess.domain.board;
+
+import static chess.domain.Color.BLACK;
+import static chess.domain.Color.WHITE;
+import static chess.domain.piece.Piece.createBlackPiece;
+import static chess.domain.piece.Piece.createWhitePiece;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.Color;
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceFactory;
+import chess.domain.piece.multiple.Bishop;
+import chess.domain.piece.multiple.Rook;
+import chess.domain.piece.pawn.Pawn;
+import chess.domain.piece.single.King;
+import chess.domain.piece.single.Knight;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class BitBoardTest {
+
+    @ParameterizedTest
+    @MethodSource("boards")
+    @DisplayName("MapBoard와 동일한 조회 결과 반환")
+    void sameAsMapBoard(Map<Position, Piece> pieces) {
+        Board bitBoard = BitBoard.from(pieces);
+        Board mapBoard = new MapBoard(pieces);
+
+        for (Color color : Color.values()) {
+            assertAll(
+                    () -> assertThat(bitBoard.hasKing(color)).isEqualTo(mapBoard.hasKing(color)),
+                    () -> assertThat(bitBoard.occupancy(color)).isEqualTo(mapBoard.occupancy(color)),
+                    () -> assertThat(bitBoard.kingOccupancy(color)).isEqualTo(mapBoard.kingOccupancy(color)),
+                    () -> assertThat(bitBoard.findPromotionPosition(color))
+                            .isEqualTo(mapBoard.findPromotionPosition(color))
+            );
+        }
+        assertAll(
+                () -> assertThat(bitBoard.countKing()).isEqualTo(mapBoard.countKing()),
+                () -> assertThat(bitBoard.toMap()).isEqualTo(mapBoard.toMap())
+        );
+    }
+
+    private static Stream<Arguments> boards() {
+        return Stream.of(
+                Arguments.of(PieceFactory.createNewChessBoard()),
+                Arguments.of(Map.of(
+                        Position.of('a', '2'), createWhitePiece(new Pawn(WHITE)),
+                        Position.of('a', '3'), createWhitePiece(new Pawn(WHITE)),
+                        Position.of('a', '8'), createWhitePiece(new Pawn(WHITE)),
+                        Position.of('b', '1'), createWhitePiece(new Knight()),
+                        Position.of('e', '1'), createWhitePiece(new King()),
+                        Position.of('h', '1'), createBlackPiece(new Pawn(BLACK)),
+                        Position.of('c', '8'), createBlackPiece(new Bishop()),
+                        Position.of('h', '8'), createBlackPiece(new Rook())
+                ))
+        );
+    }
+
+    @Test
+    @DisplayName("기물 이동 시 출발 위치는 비고 도착 위치의 기물은 교체")
+    void move() {
+        Position source = Position.of('a', '1');
+        Position target = Position.of('a', '8');
+        Piece rook = createWhitePiece(new Rook());
+        Board board = BitBoard.from(Map.of(
+                source, rook,
+                target, createBlackPiece(new King()),
+                Position.of('e', '1'), createWhitePiece(new King())
+        ));
+
+        board.move(source, target, rook);
+
+        assertAll(
+                () -> assertThat(board.contains(source)).isFalse(),
+                () -> assertThat(board.get(target)).isEqualTo(rook),
+                () -> assertThat(board.hasKing(BLACK)).isFalse(),
+                () -> assertThat(board.countKing()).isEqualTo(1)
+        );
+    }
+}
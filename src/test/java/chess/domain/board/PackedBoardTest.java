@@ -0,0 +1,63 @@
+package chess.domain.board;
+
+import static chess.domain.Color.BLACK;
+import static chess.domain.Color.WHITE;
+import static chess.domain.piece.Piece.createBlackPiece;
+import static chess.domain.piece.Piece.createWhitePiece;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chess.domain.Position;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceFactory;
+import chess.domain.piece.multiple.Queen;
+import chess.domain.piece.pawn.Pawn;
+import chess.domain.piece.single.King;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PackedBoardTest {
+
+    @Test
+    @DisplayName("체스판을 32바이트로 압축")
+    void pack() {
+        assertThat(PackedBoard.pack(PieceFactory.createNewChessBoard())).hasSize(32);
+    }
+
+    @Test
+    @DisplayName("압축한 체스판을 풀면 같은 기물 배치 반환")
+    void unpack() {
+        Map<Position, Piece> pieces = Map.of(
+                Position.from("a1"), createWhitePiece(new King()),
+                Position.from("b1"), createBlackPiece(new Queen()),
+                Position.from("h8"), createBlackPiece(new King()),
+                Position.from("g7"), createWhitePiece(new Pawn(WHITE))
+        );
+
+        Map<Position, Piece> unpacked = PackedBoard.unpack(PackedBoard.pack(pieces)).toMap();
+
+        assertThat(unpacked).hasSameSizeAs(pieces);
+        for (Entry<Position, Piece> entry : pieces.entrySet()) {
+            Piece piece = unpacked.get(entry.getKey());
+            assertThat(piece.name()).isEqualTo(entry.getValue().name());
+            assertThat(piece.color()).isEqualTo(entry.getValue().color());
+        }
+    }
+
+    @Test
+    @DisplayName("흑 기물은 상위 비트로 구분")
+    void packBlackPiece() {
+        byte[] packed = PackedBoard.pack(Map.of(Position.from("b1"), createBlackPiece(new King())));
+        assertThat(PackedBoard.unpack(packed).get(Position.from("b1")).color()).isEqualTo(BLACK);
+    }
+
+    @Test
+    @DisplayName("크기가 맞지 않는 스냅샷을 풀면 예외발생")
+    void unpackExceptionBySize() {
+        assertThatThrownBy(() -> PackedBoard.unpack(new byte[16]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("체스판 스냅샷의 크기가 올바르지 않습니다.");
+    }
+}
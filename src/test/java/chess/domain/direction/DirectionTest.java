@@ -1,10 +1,12 @@
 package chess.domain.direction;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 
 import chess.domain.Position;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -20,4 +22,34 @@ class DirectionTest {
 
         assertThat(directions).hasSize(expected);
     }
+
+    @ParameterizedTest
+    @CsvSource(value = {"d,8,true", "d,5,true", "d,4,false", "d,3,false", "e,5,false"})
+    @DisplayName("목표 위치가 방향의 경로 위에 있는지 확인")
+    void isOnRay(char column, char row, boolean expected) {
+        Position position = Position.of('d', '4');
+
+        assertThat(Direction.UP.isOnRay(position, Position.of(column, row))).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"g,7,2", "e,5,0", "h,8,3", "a,1,0"})
+    @DisplayName("출발 위치와 목표 위치 사이의 칸 반환")
+    void between(char column, char row, int expected) {
+        Position position = Position.of('d', '4');
+        long between = Direction.UP_RIGHT.between(position, Position.of(column, row));
+
+        assertThat(Long.bitCount(between)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("한 칸 이동 여부 확인")
+    void isOneStep() {
+        Position position = Position.of('d', '4');
+
+        assertAll(
+                () -> assertThat(Direction.UP_UP_RIGHT.isOneStep(position, Position.of('e', '6'))).isTrue(),
+                () -> assertThat(Direction.UP_UP_RIGHT.isOneStep(position, Position.of('f', '8'))).isFalse()
+        );
+    }
 }
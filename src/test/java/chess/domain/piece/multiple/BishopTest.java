@@ -3,9 +3,9 @@ package chess.domain.piece.multiple;
 import static chess.domain.piece.Piece.createBlackPiece;
 import static chess.domain.piece.Piece.createWhitePiece;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.piece.PieceRule;
 import java.util.Map;
@@ -34,31 +34,27 @@ class BishopTest {
 
     @ParameterizedTest
     @CsvSource(value = {"b,5", "c,7", "d,6"})
-    @DisplayName("목표 지점이 이동 가능 경로를 벗어나면 예외 발생")
+    @DisplayName("목표 지점이 이동 가능 경로를 벗어나면 이동 불가")
     void emptyDirection(char col, char row) {
         Position target = Position.of(col, row);
         ChessBoard chessBoard = new ChessBoard(Map.of(source, createWhitePiece(new Bishop())));
 
-        assertThatThrownBy(() -> bishop.move(source, target, chessBoard))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("움직일 수 없는 곳입니다.");
+        assertThat(bishop.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
     }
 
     @Test
-    @DisplayName("가로막히고 목표지점이 비어 있으면 예외 발생")
+    @DisplayName("가로막히고 목표지점이 비어 있으면 이동 불가")
     void isMovableToNotClearEmptyPosition() {
         Position target = Position.of('b', '6');
         ChessBoard chessBoard = new ChessBoard(Map.of(
                 source, createWhitePiece(new Bishop()),
                 Position.of('c', '5'), createBlackPiece(new Bishop())));
 
-        assertThatThrownBy(() -> bishop.move(source, target, chessBoard))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("움직일 수 없는 곳입니다.");
+        assertThat(bishop.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
     }
 
     @Test
-    @DisplayName("가로막히고 목표지점에 기물이 존재시 예외 발생")
+    @DisplayName("가로막히고 목표지점에 기물이 존재시 이동 불가")
     void isMovableToNotClearPiecePosition() {
         Position target = Position.of('b', '6');
         ChessBoard chessBoard = new ChessBoard(Map.of(
@@ -66,8 +62,6 @@ class BishopTest {
                 Position.of('c', '5'), createBlackPiece(new Bishop()),
                 target, createBlackPiece(new Bishop())));
 
-        assertThatThrownBy(() -> bishop.move(source, target, chessBoard))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("움직일 수 없는 곳입니다.");
+        assertThat(bishop.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
     }
 }
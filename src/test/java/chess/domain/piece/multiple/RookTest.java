@@ -3,9 +3,9 @@ package chess.domain.piece.multiple;
 import static chess.domain.piece.Piece.createBlackPiece;
 import static chess.domain.piece.Piece.createWhitePiece;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.piece.PieceRule;
 import java.util.Map;
@@ -34,14 +34,12 @@ class RookTest {
 
 	@ParameterizedTest
 	@CsvSource(value = {"c,5", "c,6"})
-	@DisplayName("목표 지점이 이동 가능 경로를 벗어나면 예외 발생")
+	@DisplayName("목표 지점이 이동 가능 경로를 벗어나면 이동 불가")
 	void emptyDirection(char col, char row) {
 		Position target = Position.of(col, row);
 		ChessBoard chessBoard = new ChessBoard(Map.of(source, createWhitePiece(new Rook())));
 
-		assertThatThrownBy(() -> rook.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(rook.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 
 	@Test
@@ -52,9 +50,7 @@ class RookTest {
 				source, createWhitePiece(new Rook()),
 				Position.of('d', '7'), createBlackPiece(new Rook())));
 
-		assertThatThrownBy(() -> rook.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(rook.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 
 	@Test
@@ -66,8 +62,6 @@ class RookTest {
 				Position.of('d', '7'), createBlackPiece(new Rook()),
 				target, createBlackPiece(new Rook())));
 
-		assertThatThrownBy(() -> rook.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(rook.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 }
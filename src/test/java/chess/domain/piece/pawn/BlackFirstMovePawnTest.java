@@ -4,9 +4,10 @@ import static chess.domain.Color.BLACK;
 import static chess.domain.Color.WHITE;
 import static chess.domain.piece.Piece.createBlackPiece;
 import static chess.domain.piece.Piece.createWhitePiece;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceRule;
@@ -32,14 +33,12 @@ public class BlackFirstMovePawnTest {
 
     @ParameterizedTest
     @CsvSource(value = {"b,8", "b,7", "b,4", "a,8", "a,7"})
-    @DisplayName("목표 지점이 이동 가능 경로를 벗어나면 예외 발생")
+    @DisplayName("목표 지점이 이동 가능 경로를 벗어나면 이동 불가")
     void isMovableToEmptyPosition(char col, char row) {
         Position target = Position.of(col, row);
         ChessBoard chessBoard = new ChessBoard(Map.of(source, createBlackPiece(new Pawn(BLACK))));
 
-        assertThatThrownBy(() -> pawn.move(source, target, chessBoard))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("움직일 수 없는 곳입니다.");
+        assertThat(pawn.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
     }
 
     @ParameterizedTest
@@ -50,9 +49,7 @@ public class BlackFirstMovePawnTest {
                 source, createBlackPiece(new Pawn(BLACK)),
                 target, piece));
 
-        assertThatThrownBy(() -> pawn.move(source, target, chessBoard))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("움직일 수 없는 곳입니다.");
+        assertThat(pawn.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
     }
 
     private static Stream<Arguments> cannotMoveToPiecePosition() {
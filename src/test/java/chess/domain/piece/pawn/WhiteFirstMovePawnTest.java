@@ -4,9 +4,10 @@ import static chess.domain.Color.BLACK;
 import static chess.domain.Color.WHITE;
 import static chess.domain.piece.Piece.createBlackPiece;
 import static chess.domain.piece.Piece.createWhitePiece;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceRule;
@@ -37,9 +38,7 @@ class WhiteFirstMovePawnTest {
 		Position target = Position.of(col, row);
 		ChessBoard chessBoard = new ChessBoard(Map.of(source, createWhitePiece(new Pawn(WHITE))));
 
-		assertThatThrownBy(() -> pawn.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(pawn.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 
 	@ParameterizedTest
@@ -50,9 +49,7 @@ class WhiteFirstMovePawnTest {
 				source, createWhitePiece(new Pawn(WHITE)),
 				target, piece));
 
-		assertThatThrownBy(() -> pawn.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(pawn.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 
 	private static Stream<Arguments> cannotMoveToPiecePosition() {
@@ -5,9 +5,9 @@ import static chess.domain.Color.WHITE;
 import static chess.domain.piece.Piece.createBlackPiece;
 import static chess.domain.piece.Piece.createWhitePiece;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceRule;
@@ -38,9 +38,7 @@ class WhitePawnTest {
 		Position target = Position.of(col, row);
 		ChessBoard chessBoard = new ChessBoard(Map.of(source, createWhitePiece(new Pawn(WHITE))));
 
-		assertThatThrownBy(() -> pawn.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(pawn.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 
 	@ParameterizedTest
@@ -51,9 +49,7 @@ class WhitePawnTest {
 				source, createWhitePiece(new Pawn(WHITE)),
 				target, piece));
 
-		assertThatThrownBy(() -> pawn.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(pawn.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 
 	private static Stream<Arguments> cannotMoveToPiecePosition() {
@@ -71,7 +67,7 @@ class WhitePawnTest {
 				source, createWhitePiece(new Pawn(WHITE)),
 				target, piece));
 
-		assertThat(pawn.move(source, target, chessBoard)).isInstanceOf(Pawn.class);
+		assertThat(pawn.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.SUCCESS);
 	}
 
 	private static Stream<Arguments> canMoveToEnemyPiecePosition() {
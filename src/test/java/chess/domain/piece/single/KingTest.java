@@ -3,9 +3,9 @@ package chess.domain.piece.single;
 import static chess.domain.piece.Piece.createBlackPiece;
 import static chess.domain.piece.Piece.createWhitePiece;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.piece.PieceRule;
 import java.util.Map;
@@ -34,14 +34,12 @@ class KingTest {
 
 	@ParameterizedTest
 	@CsvSource(value = {"b,3,false", "c,3,false"})
-	@DisplayName("목표 지점이 이동 가능 경로를 벗어나면 예외 발생")
+	@DisplayName("목표 지점이 이동 가능 경로를 벗어나면 이동 불가")
 	void isMovableToEmptyPosition(char col, char row) {
 		Position target = Position.of(col, row);
 		ChessBoard chessBoard = new ChessBoard(Map.of(source, createWhitePiece(new King())));
 
-		assertThatThrownBy(() -> king.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(king.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 
 	@Test
@@ -53,6 +51,6 @@ class KingTest {
 				target, createBlackPiece(new King())
 		));
 
-		assertThat(king.move(source, target, chessBoard)).isInstanceOf(King.class);
+		assertThat(king.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.SUCCESS);
 	}
 }
@@ -3,9 +3,9 @@ package chess.domain.piece.single;
 import static chess.domain.piece.Piece.createBlackPiece;
 import static chess.domain.piece.Piece.createWhitePiece;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.piece.PieceRule;
 import java.util.Map;
@@ -39,9 +39,7 @@ class KnightTest {
 		Position target = Position.of(col, row);
 		ChessBoard chessBoard = new ChessBoard(Map.of(source, createWhitePiece(new Knight())));
 
-		assertThatThrownBy(() -> knight.move(source, target, chessBoard))
-				.isInstanceOf(IllegalStateException.class)
-				.hasMessage("움직일 수 없는 곳입니다.");
+		assertThat(knight.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.UNREACHABLE_TARGET);
 	}
 
 	@Test
@@ -53,6 +51,6 @@ class KnightTest {
 				target, createBlackPiece(new Knight())
 		));
 
-		assertThat(knight.move(source, target, chessBoard)).isInstanceOf(Knight.class);
+		assertThat(knight.checkMove(source, target, chessBoard)).isEqualTo(MoveResult.SUCCESS);
 	}
 }
@@ -1,8 +1,10 @@
 package chess.domain.state;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import chess.domain.ChessBoard;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.PromotionPiece;
 import java.util.HashMap;
@@ -21,12 +23,11 @@ class EndTurnTest {
     }
 
     @Test
-    @DisplayName("EndTurn에서 movePiece 호출 시 예외발생")
+    @DisplayName("EndTurn에서 movePiece 호출 시 이동 불가")
     void movePieceException() {
         ChessGameState endTurn = new EndState(new ChessBoard(new HashMap<>()));
-        assertThatThrownBy(() -> endTurn.movePiece(Position.of('a', '1'), Position.of('a', '2')))
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessage("종료된 게임은 기물을 움직일 수 없습니다.");
+        assertThat(endTurn.movePiece(Position.of('a', '1'), Position.of('a', '2')))
+                .isEqualTo(MoveResult.ENDED_GAME);
     }
 
     @Test
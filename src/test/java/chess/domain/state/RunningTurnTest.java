@@ -1,14 +1,19 @@
 package chess.domain.state;
 
+import static chess.domain.Color.BLACK;
 import static chess.domain.Color.WHITE;
+import static chess.domain.piece.Piece.createBlackPiece;
+import static chess.domain.piece.Piece.createWhitePiece;
 import static chess.domain.state.Turn.BLACK_TURN;
 import static chess.domain.state.Turn.END;
 import static chess.domain.state.Turn.WHITE_TURN;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import chess.domain.ChessBoard;
+import chess.domain.Move;
 import chess.domain.Position;
-import chess.domain.piece.Piece;
+import chess.domain.PromotionPiece;
+import chess.domain.piece.multiple.Rook;
 import chess.domain.piece.pawn.Pawn;
 import chess.domain.piece.single.King;
 import java.util.Map;
@@ -28,16 +33,30 @@ class RunningTurnTest {
 	@Test
 	@DisplayName("chess board가 promotion 상태라면 턴을 반환")
 	void nextTurnPromotion() {
-		ChessBoard chessBoard = new ChessBoard(Map.of(position, new Piece(WHITE, new Pawn(WHITE))));
+		ChessBoard chessBoard = new ChessBoard(Map.of(position, createWhitePiece(new Pawn(WHITE))));
 		ChessGameState chessGameState = new RunningState(chessBoard, WHITE);
 
 		assertThat(chessGameState.nextTurn()).isEqualTo(WHITE_TURN);
 	}
 
+	@Test
+	@DisplayName("promotion 후에는 상대 턴을 반환")
+	void nextTurnAfterPromotion() {
+		ChessBoard chessBoard = new ChessBoard(Map.of(
+				position, createWhitePiece(new Pawn(WHITE)),
+				Position.of('e', '1'), createWhitePiece(new King()),
+				Position.of('e', '8'), createBlackPiece(new King())));
+		ChessGameState chessGameState = new RunningState(chessBoard, WHITE);
+
+		chessGameState.promotion(PromotionPiece.QUEEN);
+
+		assertThat(chessGameState.nextTurn()).isEqualTo(BLACK_TURN);
+	}
+
 	@Test
 	@DisplayName("게임이 종료되었으면 종료 상태를 반환")
 	void nextTurnEnd() {
-		ChessBoard chessBoard = new ChessBoard(Map.of(position, new Piece(WHITE, new King())));
+		ChessBoard chessBoard = new ChessBoard(Map.of(position, createWhitePiece(new King())));
 		ChessGameState chessGameState = new RunningState(chessBoard, WHITE);
 
 		assertThat(chessGameState.nextTurn()).isEqualTo(END);
@@ -46,9 +65,23 @@ class RunningTurnTest {
 	@Test
 	@DisplayName("현재턴 종료 시 다음 턴 반환")
 	void nextTurnReverseColor() {
-		ChessBoard chessBoard = new ChessBoard(Map.of(Position.of('a', '1'), new Piece(WHITE, new Pawn(WHITE))));
+		ChessBoard chessBoard = new ChessBoard(Map.of(Position.of('a', '1'), createWhitePiece(new Pawn(WHITE))));
 		ChessGameState chessGameState = new RunningState(chessBoard, WHITE);
 
 		assertThat(chessGameState.nextTurn()).isEqualTo(BLACK_TURN);
 	}
+
+	@Test
+	@DisplayName("이동 가능한 수에는 이동 요청이 받아들이는 수를 모두 포함")
+	void movableMovesMatchAcceptedMoves() {
+		ChessBoard chessBoard = new ChessBoard(Map.of(
+				Position.from("a1"), createWhitePiece(new King()),
+				Position.from("b8"), createBlackPiece(new Rook()),
+				Position.from("h8"), createBlackPiece(new King())));
+		ChessGameState chessGameState = new RunningState(chessBoard, WHITE);
+
+		assertThat(chessGameState.movableMoves(Position.from("a1")))
+				.contains(new Move(Position.from("a1"), Position.from("b1")));
+		assertThat(chessGameState.movePiece(Position.from("a1"), Position.from("b1")).isSuccess()).isTrue();
+	}
 }
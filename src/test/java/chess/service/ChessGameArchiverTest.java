@@ -0,0 +1,143 @@
+package chess.service;
+
+import static chess.domain.state.Turn.BLACK_TURN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.dao.ChessGameArchiveDao;
+import chess.dao.ChessGameDao;
+import chess.dao.MoveDao;
+import chess.dao.PieceDao;
+import chess.domain.ArchivedChessGame;
+import chess.domain.ChessGameStatus;
+import chess.domain.ChessGameSummary;
+import chess.domain.MoveRecord;
+import chess.domain.Position;
+import chess.domain.piece.PieceFactory;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@JdbcTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChessGameArchiverTest {
+
+    private ChessGameDao chessGameDao;
+    private ChessGameArchiveDao chessGameArchiveDao;
+    private ChessGameService chessGameService;
+    private ChessGameArchiver chessGameArchiver;
+    private long chessGameId;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    void setUpArchiver() {
+        PieceDao pieceDao = new PieceDao(jdbcTemplate);
+        MoveDao moveDao = new MoveDao(jdbcTemplate);
+        ChessGameCache chessGameCache = new ChessGameCache(100, 30);
+        ChessGameLocks chessGameLocks = new ChessGameLocks(16);
+        ChessGameWriter chessGameWriter = new ChessGameWriter(moveDao, pieceDao, chessGameCache, false, 100, 100, 0);
+        chessGameDao = new ChessGameDao(jdbcTemplate, dataSource);
+        chessGameArchiveDao = new ChessGameArchiveDao(jdbcTemplate);
+        chessGameService = new ChessGameService(pieceDao, chessGameDao, moveDao, chessGameArchiveDao,
+                chessGameWriter, chessGameCache, chessGameLocks, event -> {
+                });
+        chessGameArchiver = new ChessGameArchiver(chessGameDao, pieceDao, moveDao, chessGameArchiveDao,
+                chessGameWriter, chessGameCache, chessGameLocks, transactionManager, false, 60_000, 100);
+    }
+
+    @BeforeEach
+    void setUp() {
+        chessGameId = chessGameService.createNewChessGame("title", "password");
+        chessGameService.move(chessGameId, Position.from("a2"), Position.from("a4"));
+    }
+
+    @Test
+    @DisplayName("진행중인 체스 게임은 보관하지 않음")
+    void doNotArchiveRunningChessGame() {
+        assertAll(
+                () -> assertThat(chessGameArchiver.archiveEndedChessGames()).isZero(),
+                () -> assertThat(chessGameArchiveDao.findArchivedChessGame(chessGameId)).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("종료된 체스 게임은 기보와 함께 보관 테이블로 옮김")
+    void archiveEndedChessGame() {
+        chessGameService.endChessGame(chessGameId);
+
+        int archivedCount = chessGameArchiver.archiveEndedChessGames();
+
+        ArchivedChessGame archivedChessGame = chessGameArchiveDao.findArchivedChessGame(chessGameId).orElseThrow();
+        assertAll(
+                () -> assertThat(archivedCount).isEqualTo(1),
+                () -> assertThatThrownBy(() -> chessGameDao.findChessGame(chessGameId))
+                        .isInstanceOf(EmptyResultDataAccessException.class),
+                () -> assertThat(archivedChessGame.getVersion()).isEqualTo(2),
+                () -> assertThat(archivedChessGame.moveRecords()).containsExactly(
+                        new MoveRecord(1, Position.from("a2"), Position.from("a4"), null, null, BLACK_TURN),
+                        MoveRecord.end(2))
+        );
+    }
+
+    @Test
+    @DisplayName("보관된 체스 게임과 진행중인 체스 게임을 id 순서로 함께 페이지 조회")
+    void findArchivedAndLiveChessGames() {
+        chessGameService.endChessGame(chessGameId);
+        chessGameArchiver.archiveEndedChessGames();
+        long liveChessGameId = chessGameService.createNewChessGame("live", "password");
+
+        assertAll(
+                () -> assertThat(chessGameDao.findChessGames(0, 1))
+                        .containsExactly(new ChessGameSummary(chessGameId, "title")),
+                () -> assertThat(chessGameDao.findChessGames(chessGameId, 1))
+                        .containsExactly(new ChessGameSummary(liveChessGameId, "live")),
+                () -> assertThat(chessGameDao.findChessGames(0, 1, ChessGameStatus.END))
+                        .containsExactly(new ChessGameSummary(chessGameId, "title"))
+        );
+    }
+
+    @Test
+    @DisplayName("보관된 체스 게임의 제목으로 새 게임을 만들면 예외발생")
+    void createChessGameWithArchivedTitle() {
+        chessGameService.endChessGame(chessGameId);
+        chessGameArchiver.archiveEndedChessGames();
+
+        assertThatThrownBy(() -> chessGameService.createNewChessGame("title", "password"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("중복된 체스 게임 제목이 이미 존재합니다.");
+    }
+
+    @Test
+    @DisplayName("보관된 체스 게임도 체스판과 종료 여부를 조회하고 삭제할 수 있음")
+    void readArchivedChessGame() {
+        chessGameService.endChessGame(chessGameId);
+        chessGameArchiver.archiveEndedChessGames();
+
+        assertAll(
+                () -> assertThat(chessGameService.findChessBoard(chessGameId, "password").getPieces())
+                        .hasSize(PieceFactory.createNewChessBoard().size())
+                        .containsKey(Position.from("a4")),
+                () -> assertThat(chessGameService.isEndGame(chessGameId)).isTrue()
+        );
+
+        chessGameService.deleteChessGame(chessGameId, "password");
+        assertThat(chessGameArchiveDao.findArchivedChessGame(chessGameId)).isEmpty();
+    }
+}
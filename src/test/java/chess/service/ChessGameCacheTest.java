@@ -0,0 +1,94 @@
+package chess.service;
+
+import static chess.ChessGameFixture.createRunningChessGame;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.domain.ChessBoard;
+import chess.domain.ChessGame;
+import chess.domain.piece.PieceFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChessGameCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("캐시에 없는 게임은 불러온 뒤 저장하고 이후 조회는 캐시에서 반환")
+    void getLoadsOnlyOnce() {
+        ChessGameCache chessGameCache = new ChessGameCache(10, 1_000, clock::get);
+        AtomicLong loadCount = new AtomicLong();
+
+        CachedChessGame first = chessGameCache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return createCachedChessGame(id);
+        });
+        CachedChessGame second = chessGameCache.get(1L, id -> {
+            loadCount.incrementAndGet();
+            return createCachedChessGame(id);
+        });
+
+        assertAll(
+                () -> assertThat(second).isSameAs(first),
+                () -> assertThat(loadCount.get()).isEqualTo(1),
+                () -> assertThat(chessGameCache.missCount()).isEqualTo(1),
+                () -> assertThat(chessGameCache.hitCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 게임부터 제거")
+    void evictLeastRecentlyUsedGame() {
+        ChessGameCache chessGameCache = new ChessGameCache(2, 1_000, clock::get);
+        chessGameCache.put(createCachedChessGame(1L));
+        chessGameCache.put(createCachedChessGame(2L));
+        chessGameCache.get(1L, this::createCachedChessGame);
+
+        chessGameCache.put(createCachedChessGame(3L));
+        long missCount = chessGameCache.missCount();
+        chessGameCache.get(2L, this::createCachedChessGame);
+
+        assertAll(
+                () -> assertThat(chessGameCache.evictionCount()).isEqualTo(2),
+                () -> assertThat(chessGameCache.missCount()).isEqualTo(missCount + 1),
+                () -> assertThat(chessGameCache.size()).isEqualTo(2)
+        );
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지난 게임은 제거")
+    void evictIdleGame() {
+        ChessGameCache chessGameCache = new ChessGameCache(10, 1_000, clock::get);
+        chessGameCache.put(createCachedChessGame(1L));
+        chessGameCache.put(createCachedChessGame(2L));
+
+        clock.set(500);
+        chessGameCache.get(2L, this::createCachedChessGame);
+        clock.set(1_200);
+
+        assertAll(
+                () -> assertThat(chessGameCache.get(2L, this::createCachedChessGame).getId()).isEqualTo(2L),
+                () -> assertThat(chessGameCache.size()).isEqualTo(1),
+                () -> assertThat(chessGameCache.evictionCount()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 음수이면 예외발생")
+    void createExceptionByNegativeSize() {
+        assertThatThrownBy(() -> new ChessGameCache(-1, 1_000, clock::get))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("캐시 크기는 0 이상이어야 합니다.");
+    }
+
+    private CachedChessGame createCachedChessGame(long id) {
+        ChessGame chessGame = createRunningChessGame();
+        return new CachedChessGame(
+                new ChessGame(id, chessGame.getTurn(), chessGame.getTitle(), chessGame.getPassword()),
+                new ChessBoard(PieceFactory.createNewChessBoard())
+        );
+    }
+}
@@ -0,0 +1,86 @@
+package chess.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ChessGameLocksTest {
+
+    @Test
+    @DisplayName("같은 게임의 명령은 순서대로 하나씩 실행")
+    void executeSameGameSerially() throws Exception {
+        ChessGameLocks chessGameLocks = new ChessGameLocks(16);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        int[] counter = new int[1];
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executorService.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    chessGameLocks.execute(1L, () -> {
+                        counter[0]++;
+                    });
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertThat(counter[0]).isEqualTo(80_000);
+    }
+
+    @Test
+    @DisplayName("다른 게임의 명령은 동시에 실행")
+    void executeOtherGamesInParallel() throws Exception {
+        ChessGameLocks chessGameLocks = new ChessGameLocks(16);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch bothRunning = new CountDownLatch(2);
+
+        Future<Boolean> first = executorService.submit(
+                () -> chessGameLocks.execute(1L, () -> awaitOther(bothRunning)));
+        Future<Boolean> second = executorService.submit(
+                () -> chessGameLocks.execute(2L, () -> awaitOther(bothRunning)));
+
+        assertThat(first.get()).isTrue();
+        assertThat(second.get()).isTrue();
+        executorService.shutdown();
+    }
+
+    private boolean awaitOther(CountDownLatch bothRunning) {
+        bothRunning.countDown();
+        try {
+            return bothRunning.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {"1,1", "2,2", "3,4", "16,16", "100,128"})
+    @DisplayName("잠금 개수는 2의 거듭제곱으로 올림")
+    void stripes(int stripes, int expected) {
+        assertThat(new ChessGameLocks(stripes).stripes()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("잠금 개수가 음수이면 예외발생")
+    void createExceptionByNegativeStripes() {
+        assertThatThrownBy(() -> new ChessGameLocks(-1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잠금 개수는 0 이상이어야 합니다.");
+    }
+}
@@ -3,19 +3,27 @@ package chess.service;
 import static chess.ChessGameFixture.createRunningChessGame;
 import static chess.domain.Color.BLACK;
 import static chess.domain.Color.WHITE;
-import static chess.domain.state.Turn.END;
+import static chess.domain.piece.Piece.createBlackPiece;
+import static chess.domain.piece.Piece.createWhitePiece;
+import static chess.domain.state.Turn.BLACK_TURN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import chess.dao.ChessGameArchiveDao;
 import chess.dao.ChessGameDao;
+import chess.dao.MoveDao;
 import chess.dao.PieceDao;
 import chess.domain.ChessGame;
+import chess.domain.MoveRecord;
+import chess.domain.MoveResult;
 import chess.domain.Position;
 import chess.domain.PromotionPiece;
 import chess.domain.piece.Piece;
 import chess.domain.piece.pawn.Pawn;
 import chess.domain.piece.single.Knight;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
 import org.junit.jupiter.api.BeforeAll;
@@ -35,6 +43,9 @@ class ChessGameServiceTest {
     private ChessGameService chessGameService;
     private PieceDao pieceDao;
     private ChessGameDao chessGameDao;
+    private MoveDao moveDao;
+    private ChessGameCache chessGameCache;
+    private final List<Object> publishedEvents = new ArrayList<>();
     private long chessGameId;
 
     @Autowired
@@ -47,7 +58,11 @@ class ChessGameServiceTest {
     void setUpDaoAndService(){
         pieceDao = new PieceDao(jdbcTemplate);
         chessGameDao = new ChessGameDao(jdbcTemplate, dataSource);
-        chessGameService = new ChessGameService(pieceDao, chessGameDao);
+        moveDao = new MoveDao(jdbcTemplate);
+        chessGameCache = new ChessGameCache(100, 30);
+        chessGameService = new ChessGameService(pieceDao, chessGameDao, moveDao,
+                new ChessGameArchiveDao(jdbcTemplate), synchronousWriter(chessGameCache), chessGameCache,
+                new ChessGameLocks(16), publishedEvents::add);
     }
 
     @BeforeEach
@@ -55,6 +70,7 @@ class ChessGameServiceTest {
         ChessGame chessGame = createRunningChessGame();
         ChessGame savedChessGame = chessGameDao.createChessGame(chessGame);
         chessGameId = savedChessGame.getId();
+        publishedEvents.clear();
     }
 
     @Test
@@ -81,14 +97,13 @@ class ChessGameServiceTest {
         Position source = Position.of('a', '1');
         Position target = Position.of('b', '2');
         pieceDao.savePieces(chessGameId, Map.of(
-                source, new Piece(WHITE, new Pawn(WHITE)),
-                target, new Piece(BLACK, new Knight())
+                source, createWhitePiece(new Pawn(WHITE)),
+                target, createBlackPiece(new Knight())
         ));
 
         // when
         chessGameService.move(chessGameId, source, target);
-        Piece piece = pieceDao.findChessBoardByChessGameId(chessGameId).getPieces()
-                .get(target);
+        Piece piece = reloadChessBoard().get(target);
 
         // then
         assertAll(
@@ -103,12 +118,11 @@ class ChessGameServiceTest {
         // given
         Position source = Position.of('a', '1');
         Position target = Position.of('a', '2');
-        pieceDao.savePieces(chessGameId, Map.of(source, new Piece(WHITE, new Pawn(WHITE))));
+        pieceDao.savePieces(chessGameId, Map.of(source, createWhitePiece(new Pawn(WHITE))));
 
         // when
         chessGameService.move(chessGameId, source, target);
-        Piece piece = pieceDao.findChessBoardByChessGameId(chessGameId).getPieces()
-                .get(target);
+        Piece piece = reloadChessBoard().get(target);
 
         // then
         assertAll(
@@ -117,19 +131,92 @@ class ChessGameServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("move 후 기록된 기보를 이벤트로 발행")
+    void publishMoveRecordedEvent() {
+        // given
+        Position source = Position.of('a', '2');
+        Position target = Position.of('a', '3');
+        pieceDao.savePieces(chessGameId, Map.of(source, createWhitePiece(new Pawn(WHITE))));
+
+        // when
+        chessGameService.move(chessGameId, source, target);
+
+        // then
+        assertThat(publishedEvents).hasSize(1);
+        MoveRecordedEvent event = (MoveRecordedEvent) publishedEvents.get(0);
+        assertAll(
+                () -> assertThat(event.getChessGameId()).isEqualTo(chessGameId),
+                () -> assertThat(event.getMoveRecord())
+                        .isEqualTo(MoveRecord.move(1, source, target, null, BLACK_TURN))
+        );
+    }
+
+    @Test
+    @DisplayName("움직일 수 없는 move는 결과만 반환하고 기록하지 않음")
+    void rejectMove() {
+        // given
+        Position source = Position.of('a', '2');
+        Position target = Position.of('a', '5');
+        pieceDao.savePieces(chessGameId, Map.of(source, createWhitePiece(new Pawn(WHITE))));
+
+        // when
+        MoveResult moveResult = chessGameService.move(chessGameId, source, target);
+
+        // then
+        assertAll(
+                () -> assertThat(moveResult).isEqualTo(MoveResult.UNREACHABLE_TARGET),
+                () -> assertThat(moveDao.findMoveRecords(chessGameId, 0)).isEmpty(),
+                () -> assertThat(publishedEvents).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("기준 버전 이후 바뀐 칸만 조회")
+    void findChangedChessBoard() {
+        // given
+        Position source = Position.of('a', '2');
+        Position target = Position.of('a', '3');
+        pieceDao.savePieces(chessGameId, Map.of(source, createWhitePiece(new Pawn(WHITE)),
+                Position.of('h', '8'), createBlackPiece(new Pawn(BLACK))));
+        chessGameService.move(chessGameId, source, target);
+
+        // when
+        ChessBoardView changed = chessGameService.findChessBoard(chessGameId, "password", 0);
+        ChessBoardView unchanged = chessGameService.findChessBoard(chessGameId, "password", 1);
+
+        // then
+        assertAll(
+                () -> assertThat(changed.getVersion()).isEqualTo(1),
+                () -> assertThat(changed.getPieces()).containsOnlyKeys(target),
+                () -> assertThat(changed.getEmptyPositions()).containsOnly(source),
+                () -> assertThat(unchanged.getPieces()).isEmpty(),
+                () -> assertThat(unchanged.getEmptyPositions()).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("현재 버전보다 큰 기준 버전으로 조회하면 예외 발생")
+    void findChessBoardSinceFutureVersion() {
+        pieceDao.savePieces(chessGameId, Map.of(Position.of('a', '2'), createWhitePiece(new Pawn(WHITE))));
+
+        assertThatThrownBy(() -> chessGameService.findChessBoard(chessGameId, "password", 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("기준 버전은 0 이상 현재 버전 이하여야 합니다.");
+    }
+
     @Test
     @DisplayName("pawn 프로모션")
     void promotion() {
         // given
         Position source = Position.of('a', '8');
         pieceDao.savePieces(chessGameId, Map.of(
-                source, new Piece(WHITE, new Pawn(WHITE))
+                source, createWhitePiece(new Pawn(WHITE))
         ));
 
         // when
         chessGameService.promotion(chessGameId, PromotionPiece.BISHOP);
-        Piece piece = pieceDao.findChessBoardByChessGameId(chessGameId).getPieces()
-                .get(source);
+        Piece piece = reloadChessBoard().get(source);
 
         // then
         assertAll(
@@ -138,15 +225,54 @@ class ChessGameServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("이동과 프로모션을 한 번에 기록")
+    void moveAndPromote() {
+        // given
+        Position source = Position.of('a', '7');
+        Position target = Position.of('a', '8');
+        pieceDao.savePieces(chessGameId, Map.of(source, createWhitePiece(new Pawn(WHITE))));
+
+        // when
+        MoveResult moveResult = chessGameService.moveAndPromote(chessGameId, source, target, PromotionPiece.QUEEN);
+        Piece piece = reloadChessBoard().get(target);
+
+        // then
+        assertAll(
+                () -> assertThat(moveResult).isEqualTo(MoveResult.SUCCESS),
+                () -> assertThat(piece.name()).isEqualTo("queen"),
+                () -> assertThat(moveDao.findMoveRecords(chessGameId, 0)).hasSize(2)
+        );
+    }
+
+    @Test
+    @DisplayName("프로모션할 수 없는 이동이면 이동도 기록하지 않음")
+    void moveAndPromoteWithoutPromotablePawn() {
+        // given
+        Position source = Position.of('a', '2');
+        Position target = Position.of('a', '3');
+        pieceDao.savePieces(chessGameId, Map.of(source, createWhitePiece(new Pawn(WHITE))));
+
+        // when & then
+        assertThatThrownBy(() -> chessGameService.moveAndPromote(chessGameId, source, target, PromotionPiece.QUEEN))
+                .isInstanceOf(IllegalStateException.class);
+        assertAll(
+                () -> assertThat(moveDao.findMoveRecords(chessGameId, 0)).isEmpty(),
+                () -> assertThat(publishedEvents).isEmpty(),
+                () -> assertThat(chessGameService.findChessBoard(chessGameId, "password").getPieces())
+                        .containsOnlyKeys(source)
+        );
+    }
+
     @Test
     @DisplayName("체스 게임 삭제 후 체스 기물들 삭제 확인")
     void deleteChessGameAndPieces() {
         // given
         Position source = Position.of('a', '8');
         pieceDao.savePieces(chessGameId, Map.of(
-                source, new Piece(WHITE, new Pawn(WHITE))
+                source, createWhitePiece(new Pawn(WHITE))
         ));
-        chessGameDao.changeChessGameTurn(chessGameId, END);
+        chessGameService.endChessGame(chessGameId);
 
         // when
         chessGameService.deleteChessGame(chessGameId, "password");
@@ -158,4 +284,91 @@ class ChessGameServiceTest {
                 () -> assertThat(pieceDao.findChessBoardByChessGameId(chessGameId).getPieces()).hasSize(0)
         );
     }
+
+    @Test
+    @DisplayName("한 번 조회한 체스 게임은 캐시에서 조회")
+    void findCachedChessGame() {
+        // given
+        pieceDao.savePieces(chessGameId, Map.of(
+                Position.of('a', '2'), createWhitePiece(new Pawn(WHITE))
+        ));
+        long hitCount = chessGameCache.hitCount();
+        long missCount = chessGameCache.missCount();
+
+        // when
+        chessGameService.currentScore(chessGameId);
+        chessGameService.move(chessGameId, Position.of('a', '2'), Position.of('a', '3'));
+        Map<Position, Piece> pieces = chessGameService.findChessBoard(chessGameId, "password").getPieces();
+
+        // then
+        assertAll(
+                () -> assertThat(chessGameCache.missCount()).isEqualTo(missCount + 1),
+                () -> assertThat(chessGameCache.hitCount()).isEqualTo(hitCount + 2),
+                () -> assertThat(pieces).containsOnlyKeys(Position.of('a', '3')),
+                () -> assertThat(moveDao.findMoveRecords(chessGameId, 0).get(0).turn()).isEqualTo(BLACK_TURN)
+        );
+    }
+
+    @Test
+    @DisplayName("기물 이동은 기보에 추가되고 기물 테이블은 변경하지 않음")
+    void moveAppendsMoveRecord() {
+        // given
+        Position source = Position.of('a', '1');
+        Position target = Position.of('b', '2');
+        pieceDao.savePieces(chessGameId, Map.of(
+                source, createWhitePiece(new Pawn(WHITE)),
+                target, createBlackPiece(new Knight())
+        ));
+
+        // when
+        chessGameService.move(chessGameId, source, target);
+
+        // then
+        assertAll(
+                () -> assertThat(moveDao.findMoveRecords(chessGameId, 0))
+                        .containsExactly(new MoveRecord(1, source, target, null, "knight", BLACK_TURN)),
+                () -> assertThat(pieceDao.findChessBoardByChessGameId(chessGameId).getPieces()).hasSize(2)
+        );
+    }
+
+    @Test
+    @DisplayName("일정 수 이상 기물이 이동하면 기물 테이블에 스냅샷 저장")
+    void refreshSnapshot() {
+        // given
+        Position whiteKnight = Position.of('b', '1');
+        Position blackKnight = Position.of('b', '8');
+        pieceDao.savePieces(chessGameId, Map.of(
+                whiteKnight, createWhitePiece(new Knight()),
+                blackKnight, createBlackPiece(new Knight())
+        ));
+
+        // when
+        for (int i = 0; i < 16; i++) {
+            chessGameService.move(chessGameId, whiteKnight, Position.of('c', '3'));
+            chessGameService.move(chessGameId, blackKnight, Position.of('c', '6'));
+            chessGameService.move(chessGameId, Position.of('c', '3'), whiteKnight);
+            chessGameService.move(chessGameId, Position.of('c', '6'), blackKnight);
+        }
+
+        // then
+        assertAll(
+                () -> assertThat(chessGameDao.findChessGame(chessGameId).getVersion()).isEqualTo(64),
+                () -> assertThat(pieceDao.findChessBoardByChessGameId(chessGameId).getPieces())
+                        .containsOnlyKeys(whiteKnight, blackKnight),
+                () -> assertThat(reloadChessBoard()).containsOnlyKeys(whiteKnight, blackKnight)
+        );
+    }
+
+    private Map<Position, Piece> reloadChessBoard() {
+        ChessGameCache reloadedChessGameCache = new ChessGameCache(100, 30);
+        ChessGameService reloadedChessGameService = new ChessGameService(pieceDao, chessGameDao, moveDao,
+                new ChessGameArchiveDao(jdbcTemplate), synchronousWriter(reloadedChessGameCache),
+                reloadedChessGameCache, new ChessGameLocks(16), event -> {
+                });
+        return reloadedChessGameService.findChessBoard(chessGameId, "password").getPieces();
+    }
+
+    private ChessGameWriter synchronousWriter(ChessGameCache chessGameCache) {
+        return new ChessGameWriter(moveDao, pieceDao, chessGameCache, false, 100, 100, 0);
+    }
 }
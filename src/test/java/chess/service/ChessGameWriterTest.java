@@ -0,0 +1,173 @@
+package chess.service;
+
+import static chess.ChessGameFixture.createRunningChessGame;
+import static chess.domain.state.Turn.BLACK_TURN;
+import static chess.domain.state.Turn.WHITE_TURN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import chess.dao.ChessGameDao;
+import chess.dao.MoveDao;
+import chess.dao.PieceDao;
+import chess.domain.ChessGame;
+import chess.domain.MoveRecord;
+import chess.domain.Position;
+import chess.domain.piece.PieceFactory;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@JdbcTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChessGameWriterTest {
+
+    private static final long FLUSH_INTERVAL_MILLIS = 60_000;
+
+    private PieceDao pieceDao;
+    private ChessGameDao chessGameDao;
+    private MoveDao moveDao;
+    private ChessGameWriter chessGameWriter;
+    private long chessGameId;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeAll
+    void setUpDao() {
+        pieceDao = new PieceDao(jdbcTemplate);
+        chessGameDao = new ChessGameDao(jdbcTemplate, dataSource);
+        moveDao = new MoveDao(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void setUp() {
+        chessGameId = chessGameDao.createChessGame(createRunningChessGame()).getId();
+        chessGameWriter = writeBehindWriter(100);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        chessGameWriter.close();
+    }
+
+    @Test
+    @DisplayName("지연 저장 모드에서는 flush 전까지 기보를 저장하지 않음")
+    void saveMoveRecordAfterFlush() {
+        MoveRecord moveRecord = new MoveRecord(1, Position.from("a2"), Position.from("a3"), null, null, BLACK_TURN);
+
+        chessGameWriter.saveMoveRecord(chessGameId, moveRecord);
+        int pendingBeforeFlush = moveDao.findMoveRecords(chessGameId, 0).size();
+        chessGameWriter.flush();
+
+        assertAll(
+                () -> assertThat(pendingBeforeFlush).isZero(),
+                () -> assertThat(moveDao.findMoveRecords(chessGameId, 0)).containsExactly(moveRecord),
+                () -> assertThat(chessGameWriter.pendingMoveRecordCount()).isZero()
+        );
+    }
+
+    @Test
+    @DisplayName("게임 하나만 flush하면 다른 게임의 기보는 대기열에 남음")
+    void flushOneChessGame() {
+        long otherChessGameId = chessGameDao.createChessGame(new ChessGame(WHITE_TURN.name(), "other", "password"))
+                .getId();
+        MoveRecord moveRecord = new MoveRecord(1, Position.from("a2"), Position.from("a3"), null, null, BLACK_TURN);
+
+        chessGameWriter.saveMoveRecord(chessGameId, moveRecord);
+        chessGameWriter.saveMoveRecord(otherChessGameId, moveRecord);
+        chessGameWriter.flush(chessGameId);
+
+        assertAll(
+                () -> assertThat(moveDao.findMoveRecords(chessGameId, 0)).containsExactly(moveRecord),
+                () -> assertThat(moveDao.findMoveRecords(otherChessGameId, 0)).isEmpty(),
+                () -> assertThat(chessGameWriter.pendingMoveRecords(otherChessGameId)).containsExactly(moveRecord)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 게임의 스냅샷은 가장 최신 버전 하나만 저장")
+    void coalesceSnapshots() {
+        chessGameWriter.saveSnapshot(chessGameId, PieceFactory.createNewChessBoard(), BLACK_TURN, 2);
+        chessGameWriter.saveSnapshot(chessGameId, PieceFactory.createNewChessBoard(), WHITE_TURN, 1);
+
+        chessGameWriter.flush();
+
+        assertAll(
+                () -> assertThat(chessGameDao.findChessGame(chessGameId).getVersion()).isEqualTo(2),
+                () -> assertThat(chessGameDao.findChessGame(chessGameId).getTurn()).isEqualTo(BLACK_TURN.name())
+        );
+    }
+
+    @Test
+    @DisplayName("기보 저장에 실패한 게임의 스냅샷은 저장하지 않음")
+    void dropSnapshotOfDiscardedChessGame() {
+        moveDao.save(chessGameId,
+                new MoveRecord(1, Position.from("a2"), Position.from("a4"), null, null, BLACK_TURN));
+        MoveRecord moveRecord = new MoveRecord(1, Position.from("a2"), Position.from("a3"), null, null, BLACK_TURN);
+
+        chessGameWriter.saveMoveRecord(chessGameId, moveRecord);
+        chessGameWriter.saveSnapshot(chessGameId, PieceFactory.createNewChessBoard(), BLACK_TURN, 1);
+        chessGameWriter.flush();
+
+        assertAll(
+                () -> assertThat(chessGameDao.findChessGame(chessGameId).getVersion()).isZero(),
+                () -> assertThat(chessGameDao.findChessGame(chessGameId).getTurn()).isEqualTo(WHITE_TURN.name())
+        );
+    }
+
+    @Test
+    @DisplayName("한 게임의 기보 저장이 실패해도 같은 배치의 다른 게임과 이후 기보는 저장")
+    void keepOtherChessGamesWhenOneFails() {
+        long failingChessGameId = chessGameDao.createChessGame(new ChessGame(WHITE_TURN.name(), "other", "password"))
+                .getId();
+        moveDao.save(failingChessGameId,
+                new MoveRecord(1, Position.from("a2"), Position.from("a4"), null, null, BLACK_TURN));
+        MoveRecord firstMoveRecord = new MoveRecord(1, Position.from("a2"), Position.from("a3"), null, null,
+                BLACK_TURN);
+        MoveRecord secondMoveRecord = new MoveRecord(2, Position.from("a7"), Position.from("a6"), null, null,
+                WHITE_TURN);
+
+        chessGameWriter.saveMoveRecord(chessGameId, firstMoveRecord);
+        chessGameWriter.saveMoveRecord(failingChessGameId, firstMoveRecord);
+        chessGameWriter.saveSnapshot(chessGameId, PieceFactory.createNewChessBoard(), BLACK_TURN, 1);
+        chessGameWriter.flush();
+        chessGameWriter.saveMoveRecord(chessGameId, secondMoveRecord);
+        chessGameWriter.flush();
+
+        assertAll(
+                () -> assertThat(moveDao.findMoveRecords(chessGameId, 0))
+                        .containsExactly(firstMoveRecord, secondMoveRecord),
+                () -> assertThat(chessGameDao.findChessGame(chessGameId).getVersion()).isEqualTo(1),
+                () -> assertThat(moveDao.findMoveRecords(failingChessGameId, 0)).hasSize(1)
+                        .doesNotContain(firstMoveRecord)
+        );
+    }
+
+    @Test
+    @DisplayName("저장 대기열이 가득 차면 예외발생")
+    void rejectWhenQueueIsFull() throws InterruptedException {
+        ChessGameWriter fullChessGameWriter = writeBehindWriter(1);
+        fullChessGameWriter.saveMoveRecord(chessGameId, MoveRecord.end(1));
+
+        assertThatThrownBy(() -> fullChessGameWriter.saveMoveRecord(chessGameId, MoveRecord.end(2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("저장 대기 중인 기보가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        fullChessGameWriter.close();
+    }
+
+    private ChessGameWriter writeBehindWriter(int queueCapacity) {
+        return new ChessGameWriter(moveDao, pieceDao, new ChessGameCache(100, 30), true, FLUSH_INTERVAL_MILLIS,
+                queueCapacity, 0);
+    }
+}
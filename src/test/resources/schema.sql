@@ -1,3 +1,5 @@
+drop table if exists chess_game_archive cascade;
+drop table if exists move cascade;
 drop table if exists piece cascade;
 drop table if exists chess_game cascade;
 
@@ -7,17 +9,47 @@ CREATE TABLE chess_game
     turn enum('WHITE_TURN', 'BLACK_TURN', 'END') NOT NULL,
     title varchar(20) NOT NULL UNIQUE,
     password varchar(100) NOT NULL,
+    version bigint NOT NULL DEFAULT 0,
+    snapshot varbinary(32),
     primary key (id)
 );
 
+CREATE INDEX chess_game_turn_id ON chess_game (turn, id);
+
 CREATE TABLE piece
 (
     id            bigint      NOT NULL AUTO_INCREMENT,
     type          varchar(10) NOT NULL,
     color         enum('WHITE', 'BLACK') NOT NULL,
-    position_col  varchar(1)  NOT NULL,
-    position_row  varchar(1)  NOT NULL,
+    square        tinyint     NOT NULL,
     chess_game_id bigint      NOT NULL,
     primary key (id),
+    unique (chess_game_id, square),
     foreign key (chess_game_id) references chess_game (id) on delete cascade
 );
+
+CREATE TABLE move
+(
+    id            bigint      NOT NULL AUTO_INCREMENT,
+    chess_game_id bigint      NOT NULL,
+    ply           bigint      NOT NULL,
+    source        varchar(2),
+    target        varchar(2),
+    promotion     varchar(10),
+    captured      varchar(10),
+    turn          enum('WHITE_TURN', 'BLACK_TURN', 'END') NOT NULL,
+    primary key (id),
+    unique (chess_game_id, ply),
+    foreign key (chess_game_id) references chess_game (id) on delete cascade
+);
+
+CREATE TABLE chess_game_archive
+(
+    chess_game_id bigint        NOT NULL,
+    title         varchar(20)   NOT NULL UNIQUE,
+    password      varchar(100)  NOT NULL,
+    version       bigint        NOT NULL,
+    snapshot      varbinary(32) NOT NULL,
+    move_log      blob          NOT NULL,
+    primary key (chess_game_id)
+);